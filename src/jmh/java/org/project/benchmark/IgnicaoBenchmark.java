@@ -0,0 +1,86 @@
+package org.project.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.project.domain.enums.CarroStatus;
+import org.project.domain.enums.ModeloCarro;
+import org.project.domain.enums.Montadora;
+import org.project.domain.enums.TipoChave;
+import org.project.domain.enums.TipoMotor;
+import org.project.domain.object.Carro;
+import org.project.domain.object.Chave;
+import org.project.domain.object.Motor;
+import org.project.domain.object.RegistroCarros;
+import org.project.domain.object.TabelaIgnicao;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ignição pela {@link TabelaIgnicao} pré-compilada comparada à comparação direta de montadoras
+ * (implementação anterior de {@link Carro#ignicao}), sobre uma sequência aleatória de pares chave × carro.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IgnicaoBenchmark {
+    private static final int PARES = 1024;
+
+    private final Chave[] chaves = new Chave[PARES];
+    private final Carro[] carros = new Carro[PARES];
+
+    @Setup
+    public void setup() {
+        TabelaIgnicao tabela = new TabelaIgnicao(TabelaIgnicao.REGRAS_PADRAO,
+                Map.of(ModeloCarro.HVR, Montadora.HONDA, ModeloCarro.COROLLA, Montadora.TOYOTA));
+        RegistroCarros registro = new RegistroCarros(
+                List.of(new RegistroCarros.Modelo(ModeloCarro.HVR, Montadora.HONDA, Color.BLACK),
+                        new RegistroCarros.Modelo(ModeloCarro.COROLLA, Montadora.TOYOTA, Color.LIGHT_GRAY)),
+                List.of(new Motor("ASPIRADO", ModeloCarro.XPTO_0, 120, 4, 2.0, TipoMotor.ASPIRADO),
+                        new Motor("ELETRICO", ModeloCarro.TH_40, 110, 3, 1.4, TipoMotor.ELETRICO),
+                        new Motor("TURBO", ModeloCarro.XPTO_1, 180, 4, 1.5, TipoMotor.TURBO)),
+                tabela);
+
+        List<Chave> todasChaves = new ArrayList<>();
+        for (Montadora montadora : Montadora.values()) {
+            for (TipoChave tipo : TipoChave.values()) {
+                Chave chave = new Chave();
+                chave.setMontadora(montadora);
+                chave.setTipo(tipo);
+                todasChaves.add(chave);
+            }
+        }
+        List<Carro> todosCarros = registro.carros();
+
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < PARES; i++) {
+            chaves[i] = todasChaves.get(random.nextInt(todasChaves.size()));
+            carros[i] = todosCarros.get(random.nextInt(todosCarros.size()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PARES)
+    public void comparacao(Blackhole blackhole) {
+        for (int i = 0; i < PARES; i++) {
+            blackhole.consume(chaves[i].getMontadora() != carros[i].montadora()
+                    ? CarroStatus.FALHA_AO_LIGAR
+                    : CarroStatus.LIGADO);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PARES)
+    public void tabela(Blackhole blackhole) {
+        for (int i = 0; i < PARES; i++) {
+            blackhole.consume(carros[i].ignicao(chaves[i]));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.project.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.project.Main;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tempo de inicialização da aplicação completa (contexto web pronto para atender, em porta aleatória),
+ * medido uma única vez por JVM nova: cada fork representa uma instância iniciada pelo autoescalonamento.
+ * <p>
+ * Compara o perfil padrão com o perfil {@code producao}. Para medir também o código AOT, execute junto com o
+ * perfil Maven {@code producao} e habilite-o nos forks:
+ * {@code mvn -Pproducao,benchmark verify -Djmh.args="Inicializacao -jvmArgsAppend -Dspring.aot.enabled=true -p perfil=producao"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class InicializacaoBenchmark {
+    @Param({"padrao", "producao"})
+    private String perfil;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        System.setProperty("ROOT_LOG_LEVEL", "WARN");
+        System.setProperty("PROJECT_LOG_LEVEL", "WARN");
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext inicializar() {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(Main.class)
+                .bannerMode(Banner.Mode.OFF)
+                .properties(
+                        "server.port=0",
+                        "DATABASE_URL=jdbc:h2:mem:inicializacao",
+                        "DATABASE_USERNAME=sa",
+                        "DATABASE_PASSWORD=",
+                        "DATABASE_DRIVER=org.h2.Driver",
+                        "HIBERNATE_DIALECT=org.hibernate.dialect.H2Dialect",
+                        "API_DOC_ENABLED=true",
+                        "API_UI_ENABLED=true"
+                );
+        if (!"padrao".equals(perfil)) {
+            builder.profiles(perfil);
+        }
+        context = builder.run();
+        return context;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.project.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.project.domain.entity.Produto;
+import org.project.domain.mapper.ProdutoMapper;
+import org.project.domain.mapper.ProdutoMapperImpl;
+import org.project.domain.request.ProdutoAtualizarRequest;
+import org.project.domain.request.ProdutoSalvarRequest;
+import org.project.domain.response.ProdutoResponse;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo dos mapeamentos MapStruct entre DTOs e a entidade {@link Produto}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProdutoMapperBenchmark {
+    private ProdutoMapper mapper;
+    private ProdutoSalvarRequest salvarRequest;
+    private ProdutoAtualizarRequest atualizarRequest;
+    private Produto produto;
+
+    @Setup
+    public void setup() {
+        mapper = new ProdutoMapperImpl();
+        salvarRequest = new ProdutoSalvarRequest("Teclado Mecânico", "Teclado mecânico com switches azuis", new BigDecimal("379.90"));
+        atualizarRequest = new ProdutoAtualizarRequest(null, "Teclado mecânico com switches marrons", new BigDecimal("399.90"));
+        produto = mapper.toEntity(salvarRequest);
+        produto.setId(42);
+    }
+
+    @Benchmark
+    public Produto toEntity() {
+        return mapper.toEntity(salvarRequest);
+    }
+
+    @Benchmark
+    public ProdutoResponse toResponse() {
+        return mapper.toResponse(produto);
+    }
+
+    @Benchmark
+    public void toRequest(Blackhole blackhole) {
+        mapper.toRequest(atualizarRequest, produto);
+        blackhole.consume(produto);
+    }
+}
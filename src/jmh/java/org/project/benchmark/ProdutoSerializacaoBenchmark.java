@@ -0,0 +1,46 @@
+package org.project.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.project.domain.response.ProdutoResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Custo da serialização Jackson de uma página de {@link ProdutoResponse}, com o mesmo
+ * {@link ObjectMapper} padrão usado pelo Spring MVC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProdutoSerializacaoBenchmark {
+    @Param({"10", "100", "1000"})
+    private int tamanhoPagina;
+
+    private ObjectMapper objectMapper;
+    private Page<ProdutoResponse> pagina;
+
+    @Setup
+    public void setup() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<ProdutoResponse> conteudo = IntStream.range(0, tamanhoPagina)
+                .mapToObj(i -> new ProdutoResponse(i, "Produto " + i, "Descrição do produto " + i, BigDecimal.valueOf(i, 2), 0L))
+                .toList();
+        pagina = new PageImpl<>(conteudo, PageRequest.of(0, tamanhoPagina), 1_000_000);
+    }
+
+    @Benchmark
+    public byte[] serializarPagina() throws Exception {
+        return objectMapper.writeValueAsBytes(pagina);
+    }
+}
@@ -0,0 +1,138 @@
+package org.project.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.project.Main;
+import org.project.domain.enums.ModoContagem;
+import org.project.domain.request.ProdutoBuscarRequest;
+import org.project.domain.response.ProdutoResponse;
+import org.project.service.ProdutoService;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminho completo de {@link ProdutoService} (consulta, mapeamento e cache) contra um H2 em memória
+ * populado com um conjunto gerado de produtos ({@code linhas}, padrão 1 milhão).
+ * <p>
+ * As buscas em páginas grandes comparam a projeção completa com campos esparsos; execute com {@code -prof gc}
+ * para comparar também a alocação por operação.
+ * <p>
+ * O índice de texto em memória é desabilitado, pois seu custo de memória com 1 milhão de linhas
+ * distorceria as medições dos demais caminhos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ProdutoServiceBenchmark {
+    private static final int PRIMEIRO_ID = 1_000_000;
+    private static final int LOTE_INSERCAO = 10_000;
+    private static final Set<String> CAMPOS_ESPARSOS = Set.of("id", "nome");
+
+    @Param({"1000000"})
+    private int linhas;
+
+    @Param({"EXATA", "NENHUMA"})
+    private ModoContagem contagem;
+
+    private ConfigurableApplicationContext context;
+    private ProdutoService service;
+    private ProdutoBuscarRequest filtroPreco;
+    private Pageable primeiraPagina;
+    private Pageable paginaProfunda;
+    private Pageable paginaGrande;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        System.setProperty("ROOT_LOG_LEVEL", "WARN");
+        System.setProperty("PROJECT_LOG_LEVEL", "WARN");
+
+        context = new SpringApplicationBuilder(Main.class)
+                .bannerMode(Banner.Mode.OFF)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "DATABASE_URL=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "DATABASE_USERNAME=sa",
+                        "DATABASE_PASSWORD=",
+                        "DATABASE_DRIVER=org.h2.Driver",
+                        "HIBERNATE_DIALECT=org.hibernate.dialect.H2Dialect",
+                        "API_DOC_ENABLED=false",
+                        "API_UI_ENABLED=false",
+                        "spring.h2.console.enabled=false",
+                        "produto.busca.indice-habilitado=false"
+                )
+                .run();
+        service = context.getBean(ProdutoService.class);
+        popular(context.getBean(JdbcTemplate.class));
+
+        filtroPreco = new ProdutoBuscarRequest(null, null, new BigDecimal("100"), new BigDecimal("500"));
+        primeiraPagina = PageRequest.of(0, 20, Sort.by("id"));
+        paginaProfunda = PageRequest.of(linhas / 40, 20, Sort.by("id"));
+        paginaGrande = PageRequest.of(0, 2000, Sort.by("id"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private void popular(JdbcTemplate jdbcTemplate) {
+        for (int inicio = 0; inicio < linhas; inicio += LOTE_INSERCAO) {
+            List<Object[]> lote = new ArrayList<>(LOTE_INSERCAO);
+            for (int i = inicio; i < Math.min(inicio + LOTE_INSERCAO, linhas); i++) {
+                lote.add(new Object[]{
+                        PRIMEIRO_ID + i,
+                        "Produto " + i,
+                        "Descrição gerada do produto " + i,
+                        BigDecimal.valueOf(1 + i % 100_000, 2)
+                });
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO produto (id, nome, descricao, preco) VALUES (?, ?, ?, ?)", lote);
+        }
+    }
+
+    @Benchmark
+    public Slice<ProdutoResponse> buscarPrimeiraPagina() {
+        return service.buscar(null, primeiraPagina, contagem, null);
+    }
+
+    @Benchmark
+    public Slice<ProdutoResponse> buscarPaginaProfunda() {
+        return service.buscar(null, paginaProfunda, contagem, null);
+    }
+
+    @Benchmark
+    public Slice<ProdutoResponse> buscarPorFaixaDePreco() {
+        return service.buscar(filtroPreco, primeiraPagina, contagem, null);
+    }
+
+    @Benchmark
+    public Slice<ProdutoResponse> buscarPaginaGrandeCamposEsparsos() {
+        return service.buscar(null, paginaGrande, contagem, CAMPOS_ESPARSOS);
+    }
+
+    @Benchmark
+    public Slice<ProdutoResponse> buscarPaginaGrande() {
+        return service.buscar(null, paginaGrande, contagem, null);
+    }
+
+    @Benchmark
+    public ProdutoResponse obterResponsePorId() {
+        return service.obterResponsePorId(PRIMEIRO_ID + ThreadLocalRandom.current().nextInt(linhas));
+    }
+}
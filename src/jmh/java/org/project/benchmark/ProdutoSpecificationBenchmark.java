@@ -0,0 +1,64 @@
+package org.project.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.project.domain.entity.Produto;
+import org.project.domain.request.ProdutoBuscarRequest;
+import org.project.repository.specification.ProdutoConsultas;
+import org.project.repository.specification.ProdutoFiltro;
+import org.project.repository.specification.ProdutoSpecification;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da montagem da cadeia de {@link Specification} de busca (sem execução da consulta), comparado à
+ * obtenção da consulta pré-compilada por forma ({@link ProdutoConsultas}) com os valores do filtro.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProdutoSpecificationBenchmark {
+    private ProdutoBuscarRequest vazio;
+    private ProdutoBuscarRequest completo;
+    private Set<Integer> candidatos;
+    private Sort sort;
+
+    @Setup
+    public void setup() {
+        vazio = new ProdutoBuscarRequest(null, null, null, null);
+        completo = new ProdutoBuscarRequest("note", "ssd", new BigDecimal("100"), new BigDecimal("9000"));
+        candidatos = Set.of(1, 2, 3, 5, 8, 13, 21, 34);
+        sort = Sort.by("preco", "id");
+    }
+
+    @Benchmark
+    public Specification<Produto> semCriterios() {
+        return ProdutoSpecification.bySearchCriteria(vazio);
+    }
+
+    @Benchmark
+    public Specification<Produto> todosCriterios() {
+        return ProdutoSpecification.bySearchCriteria(completo);
+    }
+
+    @Benchmark
+    public Specification<Produto> comCandidatosDoIndice() {
+        return ProdutoSpecification.bySearchCriteria(completo, candidatos);
+    }
+
+    @Benchmark
+    public String consultaCompiladaTodosCriterios() {
+        return ProdutoConsultas.selecao(ProdutoFiltro.de(completo.normalizado()).forma(), Set.of(), sort);
+    }
+
+    @Benchmark
+    public String consultaCompiladaComCandidatos() {
+        return ProdutoConsultas.selecao(ProdutoFiltro.de(completo, candidatos).forma(), Set.of(), sort);
+    }
+}
@@ -2,9 +2,11 @@ package org.project;
 
 import org.springframework.boot.Banner;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.boot.builder.SpringApplicationBuilder;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class Main {
     public static void main(String[] args) {
         SpringApplicationBuilder builder = new SpringApplicationBuilder(Main.class);
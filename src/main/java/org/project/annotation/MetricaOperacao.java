@@ -0,0 +1,18 @@
+package org.project.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Associa um endpoint à operação de serviço que ele atende, de modo que o tempo de serialização
+ * da resposta seja publicado nas mesmas tags ({@code servico}, {@code operacao}) das demais etapas.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface MetricaOperacao {
+    String servico();
+
+    String operacao();
+}
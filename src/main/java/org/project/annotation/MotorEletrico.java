@@ -1,14 +0,0 @@
-package org.project.annotation;
-
-import org.project.util.BeanName;
-import org.springframework.beans.factory.annotation.Qualifier;
-
-import java.lang.annotation.ElementType;
-import java.lang.annotation.Retention;
-import java.lang.annotation.RetentionPolicy;
-import java.lang.annotation.Target;
-
-@Retention(RetentionPolicy.RUNTIME)
-@Target({ElementType.FIELD, ElementType.METHOD})
-@Qualifier(BeanName.MOTOR_ELETRICO)
-public @interface MotorEletrico { }
\ No newline at end of file
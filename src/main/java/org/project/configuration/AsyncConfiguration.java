@@ -0,0 +1,41 @@
+package org.project.configuration;
+
+import org.project.configuration.properties.BancoProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorCustomizer;
+import org.springframework.boot.task.ThreadPoolTaskExecutorCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Habilita a execução de métodos {@code @Async} no executor de tarefas da aplicação
+ * ({@code applicationTaskExecutor}, configurado pelo Spring Boot em {@code spring.task.execution}).
+ * <p>
+ * As tarefas assíncronas (importações de produtos) gravam no banco, então o executor é dimensionado pelo pool de
+ * conexões ({@link DataSourceConfiguration#tamanhoPool(BancoProperties)}) conforme o modo de execução:
+ * com threads de plataforma, um pool fixo desse tamanho (as demais tarefas aguardam na fila); com threads virtuais
+ * ({@code spring.threads.virtual.enabled}), uma thread virtual por tarefa, limitada à mesma quantidade simultânea.
+ */
+@EnableAsync
+@Configuration
+public class AsyncConfiguration {
+
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutorCustomizer executorTarefasPlataforma(BancoProperties banco) {
+        int tamanho = DataSourceConfiguration.tamanhoPool(banco);
+        return executor -> {
+            executor.setCorePoolSize(tamanho);
+            executor.setMaxPoolSize(tamanho);
+        };
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutorCustomizer executorTarefasVirtual(BancoProperties banco) {
+        int tamanho = DataSourceConfiguration.tamanhoPool(banco);
+        return executor -> executor.setConcurrencyLimit(tamanho);
+    }
+}
@@ -0,0 +1,37 @@
+package org.project.configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.project.configuration.properties.ProdutoProperties;
+import org.project.util.CacheName;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@EnableCaching
+@Configuration
+public class CacheConfiguration {
+    /**
+     * Cache de respostas de produto por ID, limitado por tamanho e TTL (Caffeine).
+     * <p>
+     * O gerenciador é envolvido por {@link TransactionAwareCacheManagerProxy}, de modo que
+     * {@code put}/{@code evict} feitos dentro de uma transação só são aplicados após o commit,
+     * evitando que um rollback deixe o cache divergente do banco.
+     * As estatísticas ({@code recordStats}) alimentam as métricas {@code cache.gets}/{@code cache.evictions}
+     * publicadas pelo Actuator.
+     * <p>
+     * O cache {@link CacheName#PRODUTO_CONTAGEM} tem especificação própria (TTL curto), pois guarda
+     * contagens aproximadas por critério de busca.
+     */
+    @Bean
+    public CacheManager cacheManager(ProdutoProperties properties) {
+        var caffeine = new CaffeineCacheManager(CacheName.PRODUTO);
+        caffeine.setCaffeineSpec(CaffeineSpec.parse(properties.cache().spec()));
+        caffeine.setAllowNullValues(false);
+        caffeine.registerCustomCache(CacheName.PRODUTO_CONTAGEM, Caffeine.from(properties.cache().contagemSpec()).build());
+        return new TransactionAwareCacheManagerProxy(caffeine);
+    }
+}
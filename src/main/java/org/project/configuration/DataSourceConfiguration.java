@@ -0,0 +1,98 @@
+package org.project.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.project.configuration.datasource.ConcorrenciaLimitadaDataSource;
+import org.project.configuration.properties.BancoProperties;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Configuração do pool de conexões (HikariCP).
+ * <p>
+ * O tamanho do pool é derivado dos núcleos disponíveis ({@code núcleos * 2 + 1}, a fórmula recomendada pelo HikariCP)
+ * quando não é informado em {@code banco.tamanho-pool}, e o pool é fixo (mínimo ocioso igual ao máximo) para não
+ * abrir conexões durante picos. Com threads virtuais, a concorrência de acesso é limitada ao mesmo tamanho pelo
+ * guarda de {@link ExecucaoConfiguration}.
+ * <p>
+ * O cache de {@code PreparedStatement} do driver é habilitado conforme o banco (H2, MySQL, PostgreSQL), sem
+ * sobrescrever valores já definidos em {@code spring.datasource.hikari.data-source-properties}.
+ * Timeouts e detecção de vazamento ficam em {@code spring.datasource.hikari}, aplicados após este método.
+ * As métricas do pool ({@code hikaricp.connections.*}) são publicadas pelo Actuator.
+ */
+@Slf4j
+@Configuration
+public class DataSourceConfiguration {
+
+    private static final Map<String, Map<String, String>> CACHE_STATEMENTS = Map.of(
+            "h2", Map.of("QUERY_CACHE_SIZE", "64"),
+            "mysql", Map.of(
+                    "cachePrepStmts", "true",
+                    "prepStmtCacheSize", "250",
+                    "prepStmtCacheSqlLimit", "2048",
+                    "useServerPrepStmts", "true"
+            ),
+            "postgresql", Map.of(
+                    "prepareThreshold", "3",
+                    "preparedStatementCacheQueries", "256"
+            )
+    );
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties, BancoProperties banco, Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (StringUtils.hasText(properties.getName())) {
+            dataSource.setPoolName(properties.getName());
+        }
+
+        int tamanho = tamanhoPool(banco);
+        dataSource.setMaximumPoolSize(tamanho);
+        dataSource.setMinimumIdle(tamanho);
+
+        String driver = String.valueOf(properties.determineDriverClassName()).toLowerCase(Locale.ROOT);
+        CACHE_STATEMENTS.entrySet().stream()
+                .filter(entrada -> driver.contains(entrada.getKey()))
+                .findFirst()
+                .ifPresent(entrada -> entrada.getValue().forEach(dataSource.getDataSourceProperties()::putIfAbsent));
+
+        log.info("Pool de conexões dimensionado com {} conexões (threads virtuais: {}).",
+                tamanho, environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false));
+        return dataSource;
+    }
+
+    /**
+     * Tamanho do pool de conexões: {@code banco.tamanho-pool}, ou {@code núcleos * 2 + 1} quando não informado.
+     */
+    public static int tamanhoPool(BancoProperties banco) {
+        return banco.tamanhoPool() > 0 ? banco.tamanhoPool() : Runtime.getRuntime().availableProcessors() * 2 + 1;
+    }
+
+    /**
+     * Publica a ocupação do guarda de concorrência (modo threads virtuais), quando presente,
+     * ao lado das métricas {@code hikaricp.connections.*} do pool.
+     */
+    @Bean
+    public MeterBinder concorrenciaDataSourceMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConcorrenciaLimitadaDataSource guarda) {
+                Gauge.builder("datasource.guarda.vagas", guarda, ConcorrenciaLimitadaDataSource::getVagasDisponiveis)
+                        .description("Vagas livres no guarda de concorrência do DataSource")
+                        .register(registry);
+                Gauge.builder("datasource.guarda.aguardando", guarda, ConcorrenciaLimitadaDataSource::getThreadsAguardando)
+                        .description("Threads aguardando vaga no guarda de concorrência do DataSource")
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package org.project.configuration;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.project.configuration.datasource.ConcorrenciaLimitadaDataSource;
+import org.project.configuration.properties.ExecucaoProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuração do modo de execução com threads virtuais ({@code spring.threads.virtual.enabled=true}).
+ * <p>
+ * O Spring Boot passa a atender as requisições do Tomcat e os métodos {@code @Async} em threads virtuais.
+ * Como isso remove o limite natural de concorrência imposto pelo pool de threads do Tomcat, o {@link DataSource}
+ * é envolvido por {@link ConcorrenciaLimitadaDataSource}, que limita o acesso ao pool de conexões e falha
+ * rapidamente quando ele está saturado.
+ * <p>
+ * A partir do Java 24 (JEP 491), blocos {@code synchronized} não fixam mais a thread virtual à thread
+ * de plataforma, então drivers JDBC que usam monitores não esgotam o pool de carregadores.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ExecucaoConfiguration {
+    private static final int LIMITE_PADRAO = 10;
+
+    @Bean
+    public static BeanPostProcessor concorrenciaLimitadaDataSourcePostProcessor(ObjectProvider<ExecucaoProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcorrenciaLimitadaDataSource) {
+                    return bean;
+                }
+                ExecucaoProperties execucao = properties.getObject();
+                int limite = execucao.limiteConexoes() > 0 ? execucao.limiteConexoes() : tamanhoPool(dataSource);
+                log.info("Threads virtuais habilitadas. Limitando DataSource '{}' a {} conexões simultâneas (espera máxima {}).",
+                        beanName, limite, execucao.esperaConexao());
+                return new ConcorrenciaLimitadaDataSource(dataSource, limite, execucao.esperaConexao());
+            }
+        };
+    }
+
+    private static int tamanhoPool(DataSource dataSource) {
+        return dataSource instanceof HikariConfigMXBean hikari ? hikari.getMaximumPoolSize() : LIMITE_PADRAO;
+    }
+}
@@ -0,0 +1,28 @@
+package org.project.configuration;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Restringe a inicialização tardia ({@code spring.main.lazy-initialization=true}, perfil {@code producao})
+ * aos beans da documentação OpenAPI e do console H2, que só são usados quando acessados.
+ * Os demais beans são excluídos da inicialização tardia, para que erros de configuração continuem aparecendo
+ * na inicialização e a primeira requisição não pague o custo de criar repositórios, caches e serviços.
+ */
+@Configuration
+public class InicializacaoConfiguration {
+    private static final List<String> PACOTES_TARDIOS = List.of(
+            "org.springdoc.",
+            "org.springframework.boot.autoconfigure.h2.",
+            "org.h2.server.web."
+    );
+
+    @Bean
+    public static LazyInitializationExcludeFilter inicializacaoAntecipada() {
+        return (beanName, definicao, tipo) -> tipo == null
+                || PACOTES_TARDIOS.stream().noneMatch(pacote -> tipo.getName().startsWith(pacote));
+    }
+}
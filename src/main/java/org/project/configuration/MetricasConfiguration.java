@@ -0,0 +1,32 @@
+package org.project.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.project.metrics.MedicaoJackson2HttpMessageConverter;
+import org.project.metrics.MetricaOperacaoInterceptor;
+import org.project.metrics.MetricasServico;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Medição da etapa de serialização das operações de serviço (ver {@link MetricasServico}).
+ * <p>
+ * O conversor JSON declarado aqui substitui o padrão do Spring Boot, usando o mesmo {@link ObjectMapper}.
+ */
+@Configuration
+public class MetricasConfiguration implements WebMvcConfigurer {
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(
+            ObjectMapper objectMapper, MetricasServico metricas
+    ) {
+        return new MedicaoJackson2HttpMessageConverter(objectMapper, metricas);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new MetricaOperacaoInterceptor());
+    }
+}
@@ -0,0 +1,12 @@
+package org.project.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita o agendador de tarefas da aplicação ({@code taskScheduler}, configurado pelo Spring Boot
+ * em {@code spring.task.scheduling}), usado pela descarga periódica dos resultados dos testes de fábrica.
+ */
+@EnableScheduling
+@Configuration
+public class SchedulingConfiguration { }
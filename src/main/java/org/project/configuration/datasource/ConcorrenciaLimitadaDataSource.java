@@ -0,0 +1,100 @@
+package org.project.configuration.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link DataSource} que limita quantas threads podem manter conexões abertas ao mesmo tempo.
+ * <p>
+ * Com threads virtuais, o número de requisições simultâneas deixa de ser limitado pelo pool do Tomcat e
+ * milhares de threads podem disputar as poucas conexões do pool. Este guarda aplica um semáforo justo
+ * (FIFO) antes do pool: a thread virtual fica estacionada no semáforo (sem ocupar thread de plataforma) e,
+ * se não conseguir vaga dentro do tempo de espera, falha rapidamente com {@link SQLTransientConnectionException}
+ * em vez de aguardar o {@code connectionTimeout} do pool. A vaga é devolvida ao fechar a conexão.
+ */
+public class ConcorrenciaLimitadaDataSource extends DelegatingDataSource {
+    private final Semaphore vagas;
+    private final int limite;
+    private final long esperaNanos;
+
+    public ConcorrenciaLimitadaDataSource(DataSource dataSource, int limite, Duration espera) {
+        super(dataSource);
+        this.vagas = new Semaphore(limite, true);
+        this.limite = limite;
+        this.esperaNanos = espera.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        adquirir();
+        try {
+            return liberarAoFechar(super.getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            vagas.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        adquirir();
+        try {
+            return liberarAoFechar(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            vagas.release();
+            throw ex;
+        }
+    }
+
+    public int getLimite() {
+        return limite;
+    }
+
+    public int getVagasDisponiveis() {
+        return vagas.availablePermits();
+    }
+
+    public int getThreadsAguardando() {
+        return vagas.getQueueLength();
+    }
+
+    private void adquirir() throws SQLException {
+        try {
+            if (!vagas.tryAcquire(esperaNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Limite de " + limite + " conexões simultâneas atingido; " + vagas.getQueueLength() + " threads aguardando.");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrompido aguardando conexão.", ex);
+        }
+    }
+
+    private Connection liberarAoFechar(Connection connection) {
+        AtomicBoolean liberada = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (_, method, args) -> {
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    } finally {
+                        if (method.getName().equals("close") && liberada.compareAndSet(false, true)) {
+                            vagas.release();
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,16 @@
+package org.project.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propriedades de dimensionamento do pool de conexões (prefixo {@code banco}).
+ * Os demais parâmetros do pool (timeouts, detecção de vazamento) ficam em {@code spring.datasource.hikari}.
+ *
+ * @param tamanhoPool Tamanho máximo (e mínimo ocioso) do pool. Zero ou negativo deriva o valor
+ *                    da quantidade de núcleos: {@code núcleos * 2 + 1}.
+ */
+@ConfigurationProperties(prefix = "banco")
+public record BancoProperties(
+        @DefaultValue("0") int tamanhoPool
+) { }
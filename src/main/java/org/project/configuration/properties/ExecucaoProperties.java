@@ -0,0 +1,20 @@
+package org.project.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Propriedades do modo de execução da aplicação (prefixo {@code execucao}).
+ * Aplicadas quando as threads virtuais estão habilitadas ({@code spring.threads.virtual.enabled}).
+ *
+ * @param limiteConexoes Quantidade máxima de threads usando conexões do banco ao mesmo tempo.
+ *                       Zero ou negativo usa o tamanho máximo do pool de conexões.
+ * @param esperaConexao  Tempo máximo que uma thread aguarda por uma vaga antes de falhar.
+ */
+@ConfigurationProperties(prefix = "execucao")
+public record ExecucaoProperties(
+        @DefaultValue("0") int limiteConexoes,
+        @DefaultValue("2s") Duration esperaConexao
+) { }
@@ -0,0 +1,76 @@
+package org.project.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Propriedades de configuração do catálogo de produtos (prefixo {@code produto}).
+ *
+ * @param cache Configurações do cache em memória de {@link org.project.domain.response.ProdutoResponse}.
+ * @param busca Configurações da busca textual por nome/descrição.
+ * @param lote  Configurações da criação de produtos em lote.
+ * @param exportacao Configurações da exportação do catálogo em fluxo.
+ * @param importacao Configurações da importação de arquivos de produtos.
+ * @param coalescencia Configurações da coalescência de leituras idênticas simultâneas.
+ */
+@ConfigurationProperties(prefix = "produto")
+public record ProdutoProperties(
+        @DefaultValue Cache cache,
+        @DefaultValue Busca busca,
+        @DefaultValue Lote lote,
+        @DefaultValue Exportacao exportacao,
+        @DefaultValue Importacao importacao,
+        @DefaultValue Coalescencia coalescencia
+) {
+    /**
+     * @param spec          Especificação Caffeine do cache por ID (tamanho máximo, TTL e estatísticas).
+     * @param contagemSpec  Especificação Caffeine do cache de contagens aproximadas por critério de busca.
+     */
+    public record Cache(
+            @DefaultValue("maximumSize=10000,expireAfterWrite=10m,recordStats") String spec,
+            @DefaultValue("maximumSize=1000,expireAfterWrite=30s,recordStats") String contagemSpec
+    ) { }
+
+    /**
+     * @param indiceHabilitado Usa o índice de trigramas em memória para filtros de nome/descrição.
+     * @param maxCandidatos    Quantidade máxima de IDs candidatos repassados à consulta; acima disso, usa {@code LIKE}.
+     * @param cacheConsultas   Guarda os resultados da busca paginada no cache de consultas do Hibernate
+     *                         (região {@code produto-busca}), invalidado a cada escrita em produtos.
+     */
+    public record Busca(
+            @DefaultValue("true") boolean indiceHabilitado,
+            @DefaultValue("1000") int maxCandidatos,
+            @DefaultValue("false") boolean cacheConsultas
+    ) { }
+
+    /**
+     * @param tamanhoTransacao Quantidade de itens gravados (flush/clear e commit) por transação.
+     *                         O agrupamento JDBC em si é definido por {@code hibernate.jdbc.batch_size}.
+     */
+    public record Lote(
+            @DefaultValue("1000") int tamanhoTransacao
+    ) { }
+
+    /**
+     * @param tamanhoFetch Linhas trazidas do banco a cada ida ao driver pelo cursor de exportação.
+     */
+    public record Exportacao(
+            @DefaultValue("500") int tamanhoFetch
+    ) { }
+
+    /**
+     * @param maxErros Quantidade máxima de erros por item guardados no job; os demais são apenas contados.
+     */
+    public record Importacao(
+            @DefaultValue("1000") int maxErros
+    ) { }
+
+    /**
+     * @param habilitada Compartilha uma única ida ao banco entre leituras idênticas simultâneas.
+     * @param faixas     Quantidade de mapas de chamadas em andamento (arredondada para potência de 2).
+     */
+    public record Coalescencia(
+            @DefaultValue("true") boolean habilitada,
+            @DefaultValue("16") int faixas
+    ) { }
+}
@@ -0,0 +1,61 @@
+package org.project.configuration.properties;
+
+import org.project.domain.enums.ModeloCarro;
+import org.project.domain.enums.Montadora;
+import org.project.domain.object.TabelaIgnicao;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.core.io.Resource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Propriedades de configuração dos testes de fábrica (prefixo {@code testes-fabrica}).
+ *
+ * @param modelos         Modelos de carro disponíveis para testes, por {@link ModeloCarro}.
+ * @param catalogoMotores Arquivo JSON com os motores disponíveis (recarregável em tempo de execução).
+ * @param regrasIgnicao   Regras de ignição, em ordem de prioridade (vazio = {@link TabelaIgnicao#REGRAS_PADRAO}).
+ * @param lote            Configurações da simulação de ignições em lote.
+ * @param resultados      Configurações da gravação dos resultados de ignição.
+ */
+@ConfigurationProperties(prefix = "testes-fabrica")
+public record TesteFabricaProperties(
+        @DefaultValue Map<ModeloCarro, Modelo> modelos,
+        @DefaultValue("classpath:motores.json") Resource catalogoMotores,
+        @DefaultValue List<TabelaIgnicao.Regra> regrasIgnicao,
+        @DefaultValue Lote lote,
+        @DefaultValue Resultados resultados
+) {
+    /**
+     * @param montadora Montadora do modelo (a chave precisa ser da mesma montadora para ligar o carro).
+     * @param cor       Cor do modelo, em hexadecimal (ex: {@code #000000}).
+     */
+    public record Modelo(
+            Montadora montadora,
+            @DefaultValue("#000000") String cor
+    ) { }
+
+    /**
+     * @param paralelismo   Threads do pool fork-join da simulação (0 = núcleos disponíveis).
+     * @param maxIgnicoes   Quantidade máxima de ignições (combinações × repetições) por requisição.
+     * @param limiarDivisao Ignições executadas sequencialmente por tarefa antes de dividi-la entre os núcleos.
+     */
+    public record Lote(
+            @DefaultValue("0") int paralelismo,
+            @DefaultValue("100000000") long maxIgnicoes,
+            @DefaultValue("10000") int limiarDivisao
+    ) { }
+
+    /**
+     * @param tamanhoLote       Resultados por lote JDBC; ao atingir este número de pendentes, a descarga é antecipada.
+     * @param intervaloDescarga Intervalo entre descargas periódicas dos resultados pendentes.
+     * @param capacidade        Máximo de resultados pendentes; acima dele, novos resultados são descartados.
+     */
+    public record Resultados(
+            @DefaultValue("500") int tamanhoLote,
+            @DefaultValue("1s") Duration intervaloDescarga,
+            @DefaultValue("100000") int capacidade
+    ) { }
+}
@@ -4,17 +4,48 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.project.annotation.MetricaOperacao;
+import org.project.domain.enums.FormatoArquivo;
+import org.project.domain.enums.ModoContagem;
 import org.project.domain.request.ProdutoAtualizarRequest;
 import org.project.domain.request.ProdutoBuscarRequest;
 import org.project.domain.request.ProdutoSalvarRequest;
+import org.project.domain.response.ProdutoCursorResponse;
+import org.project.domain.response.ProdutoExclusaoResponse;
+import org.project.domain.response.ProdutoImportacaoResponse;
+import org.project.domain.response.ProdutoLoteResponse;
+import org.project.domain.response.ProdutoProjecaoResponse;
 import org.project.domain.response.ProdutoResponse;
+import org.project.handler.exception.PreconditionFailedException;
+import org.project.service.ProdutoExportador;
+import org.project.service.ProdutoImportacaoService;
+import org.project.service.ProdutoLoteService;
 import org.project.service.ProdutoService;
+import org.project.util.MetricaName;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
 
 @AllArgsConstructor
 @RestController
@@ -23,6 +54,9 @@ import org.springframework.web.bind.annotation.*;
 public class ProdutoController {
 
     private final ProdutoService service;
+    private final ProdutoLoteService loteService;
+    private final ProdutoExportador exportador;
+    private final ProdutoImportacaoService importacaoService;
 
     @Operation(
             summary = "Criar Novo Produto",
@@ -39,9 +73,89 @@ public class ProdutoController {
                     """
     )
     @PostMapping
+    @MetricaOperacao(servico = MetricaName.SERVICO_PRODUTO, operacao = "criar")
     public ResponseEntity<ProdutoResponse> salvar(@RequestBody @Valid ProdutoSalvarRequest request) {
         ProdutoResponse response = service.criar(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(etag(response)).body(response);
+    }
+
+    @Operation(
+            summary = "Criar Produtos em Lote",
+            description = """
+                    Cria vários produtos em uma única requisição, gravando-os em blocos com INSERTs agrupados (lote JDBC).
+                    
+                    **Dados (Request Body):**
+                    * `application/json`: array de objetos com os mesmos campos da criação individual (`nome`, `descricao`, `preco`).
+                    * `application/x-ndjson`: um objeto JSON por linha, lido de forma incremental.
+                    
+                    Cada item é validado individualmente: itens inválidos são reportados e não impedem a gravação dos demais.
+                    Os itens válidos são gravados em transações por bloco; se um bloco falhar, todos os seus itens são reportados.
+                    
+                    **Resposta de Sucesso (HTTP 200 OK):**
+                    Retorna o total de itens recebidos, a quantidade criada e a lista de erros (`indice` baseado em zero e `mensagem`).
+                    """
+    )
+    @PostMapping(path = "/lote", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ProdutoLoteResponse> salvarLote(@RequestBody List<ProdutoSalvarRequest> requests) {
+        ProdutoLoteResponse response = loteService.criarLote(requests.iterator());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(hidden = true)
+    @PostMapping(path = "/lote", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ProdutoLoteResponse> salvarLoteNdjson(InputStream body) throws IOException {
+        ProdutoLoteResponse response = loteService.criarLote(body);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+            summary = "Importar Produtos de Arquivo (NDJSON ou CSV)",
+            description = """
+                    Inicia a importação assíncrona de um arquivo de produtos, lido de forma incremental e gravado em blocos.
+                    
+                    **Dados (Multipart Form):**
+                    * `arquivo`: Arquivo NDJSON (um objeto por linha) ou CSV (com cabeçalho contendo `nome`, `descricao` e `preco`).
+                    * `formato` (opcional): `NDJSON` ou `CSV`. Se omitido, é inferido pela extensão do arquivo.
+                    
+                    Cada registro é validado com as mesmas regras da criação individual; registros inválidos são
+                    reportados por índice (baseado em zero, sem contar o cabeçalho do CSV) e não interrompem a importação.
+                    
+                    **Resposta de Sucesso (HTTP 202 Accepted):**
+                    Retorna o job de importação criado. O andamento pode ser consultado em `GET /produtos/import/{id}`.
+                    
+                    **Resposta de Erro (HTTP 400 Bad Request):**
+                    Retorna uma mensagem se o arquivo estiver vazio ou o formato não puder ser determinado.
+                    """
+    )
+    @PostMapping(path = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ProdutoImportacaoResponse> importar(
+            @RequestParam MultipartFile arquivo,
+            @RequestParam(required = false) FormatoArquivo formato
+    ) throws IOException {
+        ProdutoImportacaoResponse response = importacaoService.iniciar(arquivo, formato);
+        return ResponseEntity.accepted().location(URI.create("/produtos/import/" + response.id())).body(response);
+    }
+
+    @Operation(
+            summary = "Consultar Importação de Produtos",
+            description = """
+                    Retorna o andamento de uma importação iniciada em `POST /produtos/import`.
+                    
+                    **Parâmetros (Path Variable):**
+                    * `{id}`: O ID do job de importação.
+                    
+                    **Resposta de Sucesso (HTTP 200 OK):**
+                    Retorna a situação (`PENDENTE`, `EM_EXECUCAO`, `CONCLUIDA`, `FALHA`), os contadores de registros
+                    processados, criados e com erro, e os erros por registro.
+                    
+                    **Resposta de Erro (HTTP 404 Not Found):**
+                    Retorna uma mensagem se o job não existir ou já tiver expirado.
+                    """
+    )
+    @GetMapping("/import/{id}")
+    public ResponseEntity<ProdutoImportacaoResponse> obterImportacao(@PathVariable UUID id) {
+        ProdutoImportacaoResponse response = importacaoService.obter(id);
+        return ResponseEntity.ok(response);
     }
 
     @Operation(
@@ -52,17 +166,28 @@ public class ProdutoController {
                     **Parâmetros (Path Variable):**
                     * `{id}`: O ID do produto a ser buscado (valor inteiro).
                     
+                    **Cabeçalho Opcional:**
+                    * `If-None-Match`: ETag recebido anteriormente (versão do produto).
+                    
                     **Resposta de Sucesso (HTTP 200 OK):**
-                    Retorna os dados completos do produto encontrado.
+                    Retorna os dados completos do produto encontrado e o cabeçalho `ETag` com a versão atual.
+                    
+                    **Resposta Não Modificado (HTTP 304 Not Modified):**
+                    O produto não mudou desde o ETag informado; nenhum corpo é enviado e a entidade não é carregada.
                     
                     **Resposta de Erro (HTTP 404 Not Found):**
                     Retorna uma mensagem indicando que o produto com o ID fornecido não foi encontrado.
                     """
     )
     @GetMapping("/{id}")
-    public ResponseEntity<ProdutoResponse> obterPorId(@PathVariable Integer id) {
+    @MetricaOperacao(servico = MetricaName.SERVICO_PRODUTO, operacao = "obterResponsePorId")
+    public ResponseEntity<ProdutoResponse> obterPorId(@PathVariable Integer id, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(String.valueOf(service.obterVersao(id)))) {
+            return null;
+        }
         ProdutoResponse response = service.obterResponsePorId(id);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag(response)).body(response);
     }
 
     @Operation(
@@ -81,22 +206,103 @@ public class ProdutoController {
                     * `size`: Número de resultados por página (padrão é 10).
                     * `sort`: Propriedade pela qual ordenar, seguida por ',asc' ou ',desc' (ex: `sort=nome,asc`). Pode ser repetido para múltiplas propriedades.
                     
+                    **Modo de Contagem (Query Parameter `contagem`):**
+                    * `EXATA` (padrão): executa `count(*)` e retorna um objeto Page com o total de elementos.
+                    * `NENHUMA`: não conta; retorna um objeto Slice com o indicador de próxima página (mais barato em buscas textuais).
+                    * `APROXIMADA`: retorna um objeto Page cujo total vem de uma contagem em cache por critério de busca.
+                    
+                    **Campos Esparsos (Query Parameter `fields`):**
+                    * Lista de campos a retornar, separados por vírgula (ex: `fields=id,nome`), entre `id`, `nome`,
+                    `descricao`, `preco` e `versao`. Apenas as colunas solicitadas são lidas do banco;
+                    `id` e `versao` são sempre retornados e os demais campos não solicitados são omitidos do JSON.
+                    Omitido: todos os campos.
+                    
                     Você pode combinar critérios de busca com parâmetros de paginação/ordenação.
                     Se nenhum parâmetro de busca for fornecido, a busca retornará todos os produtos paginados/ordenados.
                     
                     **Resposta de Sucesso (HTTP 200 OK):**
-                    Retorna um objeto Page contendo a lista de DTOs de resposta para a página solicitada,
+                    Retorna um objeto Page (ou Slice, no modo `NENHUMA`) contendo a lista de DTOs de resposta para a página solicitada,
                     juntamente com metadados de paginação (total de elementos, total de páginas, etc.).
                     A lista de conteúdo pode estar vazia se nenhum produto for encontrado na página.
+                    O cabeçalho `ETag` identifica o conteúdo da página (IDs, versões, totais e `fields`); com `If-None-Match`
+                    igual, a resposta é `304 Not Modified`, sem corpo.
+                    
+                    **Resposta de Erro (HTTP 400 Bad Request):**
+                    Retorna uma mensagem se algum campo de `fields` não existir.
                     """
     )
     @GetMapping
-    public ResponseEntity<Page<ProdutoResponse>> buscar(
+    @MetricaOperacao(servico = MetricaName.SERVICO_PRODUTO, operacao = "buscar")
+    public ResponseEntity<Slice<?>> buscar(
             @ModelAttribute @Valid ProdutoBuscarRequest request,
+            @PageableDefault(sort = "id") Pageable pageable,
+            @RequestParam(defaultValue = "EXATA") ModoContagem contagem,
+            @RequestParam(name = "fields", required = false) Set<String> campos
+    ) {
+        Slice<ProdutoResponse> responseList = service.buscar(request, pageable, contagem, campos);
+        Slice<?> body = campos == null ? responseList : responseList.map(ProdutoProjecaoResponse::de);
+        return ResponseEntity.ok().eTag(etag(responseList, campos)).body(body);
+    }
+
+    @Operation(
+            summary = "Buscar Produtos por Critérios (Paginação por Cursor)",
+            description = """
+                    Busca produtos com base em critérios de filtro opcionais usando paginação por cursor (keyset).
+                    Ao contrário da busca paginada, não executa `count(*)` nem `OFFSET`: páginas profundas
+                    custam o mesmo que a primeira.
+                    
+                    **Parâmetros de Busca (Query Parameters):**
+                    * `nome`, `descricao`, `minPreco`, `maxPreco`: mesmos filtros da busca paginada.
+                    * `after`: Cursor opaco retornado em `next` pela página anterior (omitir na primeira página).
+                    * `size`: Número de resultados por página (padrão é 10).
+                    * `sort`: Uma única propriedade entre `id`, `nome` e `preco`, seguida por ',asc' ou ',desc'.
+                    O desempate é sempre feito pelo `id`. O cursor só é válido para a mesma ordenação que o gerou.
+                    
+                    **Resposta de Sucesso (HTTP 200 OK):**
+                    Retorna o conteúdo da página, o cursor `next` e o indicador `hasNext`, com `ETag`
+                    (`304 Not Modified` quando igual ao `If-None-Match` informado).
+                    
+                    **Resposta de Erro (HTTP 400 Bad Request):**
+                    Retorna uma mensagem se o cursor for inválido ou a ordenação não for suportada.
+                    """
+    )
+    @GetMapping("/cursor")
+    public ResponseEntity<ProdutoCursorResponse> buscarPorCursor(
+            @ModelAttribute @Valid ProdutoBuscarRequest request,
+            @RequestParam(required = false) String after,
             @PageableDefault(sort = "id") Pageable pageable
     ) {
-        Page<ProdutoResponse> responseList = service.buscar(request, pageable);
-        return ResponseEntity.ok(responseList);
+        ProdutoCursorResponse response = service.buscarPorCursor(request, after, pageable);
+        return ResponseEntity.ok().eTag(etag(response.content(), response.next())).body(response);
+    }
+
+    @Operation(
+            summary = "Exportar Produtos (NDJSON ou CSV)",
+            description = """
+                    Exporta todos os produtos que atendem aos critérios de filtro, em fluxo contínuo.
+                    Os registros são lidos do banco com um cursor e escritos diretamente na resposta,
+                    sem paginação e sem contagem; o uso de memória não depende do tamanho do catálogo.
+                    
+                    **Parâmetros (Query Parameters):**
+                    * `nome`, `descricao`, `minPreco`, `maxPreco`: mesmos filtros da busca paginada.
+                    * `formato`: `NDJSON` (padrão, um objeto JSON por linha) ou `CSV` (com cabeçalho).
+                    * `sort`: Ordenação, no mesmo formato da busca paginada (padrão é `id`).
+                    
+                    **Resposta de Sucesso (HTTP 200 OK):**
+                    Arquivo `produtos.ndjson` ou `produtos.csv` transmitido progressivamente.
+                    """
+    )
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @ModelAttribute @Valid ProdutoBuscarRequest request,
+            @RequestParam(defaultValue = "NDJSON") FormatoArquivo formato,
+            @SortDefault(sort = "id") Sort sort
+    ) {
+        StreamingResponseBody body = out -> exportador.exportar(request, sort, formato, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formato.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=produtos." + formato.getExtensao())
+                .body(body);
     }
 
     @Operation(
@@ -113,22 +319,33 @@ public class ProdutoController {
                     * `descricao`: Nova descrição do produto (texto).
                     * `preco`: Novo preço unitário do produto (valor numérico positivo).
                     
+                    **Cabeçalho Opcional:**
+                    * `If-Match`: ETag da versão conhecida pelo cliente; a atualização só é aplicada sobre essa versão.
+                    
                     **Resposta de Sucesso (HTTP 200 OK):**
-                    Retorna os dados completos do produto atualizado.
+                    Retorna os dados completos do produto atualizado e o cabeçalho `ETag` com a nova versão.
+                    Se os valores informados forem iguais aos atuais, nada é gravado e a versão não muda.
                     
                     **Resposta de Erro (HTTP 400 Bad Request):**
-                    Retorna erros de validação se os dados fornecidos forem inválidos (ex: preço negativo).
+                    Retorna erros de validação se os dados fornecidos forem inválidos (ex: preço negativo)
+                    ou se nenhum campo for informado.
                     
                     **Resposta de Erro (HTTP 404 Not Found):**
                     Retorna uma mensagem indicando que o produto com o ID fornecido não foi encontrado.
+                    
+                    **Resposta de Erro (HTTP 412 Precondition Failed):**
+                    A versão informada em `If-Match` não é mais a versão atual do produto.
                     """
     )
     @PatchMapping("/{id}")
+    @MetricaOperacao(servico = MetricaName.SERVICO_PRODUTO, operacao = "atualizarResponse")
     public ResponseEntity<ProdutoResponse> atualizar(
-            @PathVariable Integer id, @RequestBody @Valid ProdutoAtualizarRequest request
+            @PathVariable Integer id,
+            @RequestBody @Valid ProdutoAtualizarRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        ProdutoResponse response = service.atualizarResponse(id, request);
-        return ResponseEntity.ok(response);
+        ProdutoResponse response = service.atualizarResponse(id, request, versaoEsperada(ifMatch));
+        return ResponseEntity.ok().eTag(etag(response)).body(response);
     }
 
     @Operation(
@@ -151,4 +368,66 @@ public class ProdutoController {
         service.deletar(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "Deletar Produtos em Lote",
+            description = """
+                    Deleta vários produtos em uma única operação, sem carregá-los.
+                    
+                    **Parâmetros (Query Parameters):**
+                    * `ids`: IDs dos produtos a serem deletados, separados por vírgula ou repetidos (máximo 1000).
+                    
+                    **Resposta de Sucesso (HTTP 200 OK):**
+                    Retorna a quantidade de IDs solicitados e de produtos efetivamente excluídos.
+                    IDs inexistentes são ignorados.
+                    
+                    **Resposta de Erro (HTTP 400 Bad Request):**
+                    Retorna uma mensagem se nenhum ID for informado ou se o limite for excedido.
+                    """
+    )
+    @DeleteMapping(params = "ids")
+    @MetricaOperacao(servico = MetricaName.SERVICO_PRODUTO, operacao = "deletarLote")
+    public ResponseEntity<ProdutoExclusaoResponse> deletarLote(@RequestParam List<Integer> ids) {
+        ProdutoExclusaoResponse response = service.deletarLote(ids);
+        return ResponseEntity.ok(response);
+    }
+
+    private static String etag(ProdutoResponse produto) {
+        return String.valueOf(produto.versao());
+    }
+
+    private static String etag(Slice<ProdutoResponse> pagina, Set<String> campos) {
+        String totais = pagina instanceof Page<?> page
+                ? page.getTotalElements() + ":" + page.getTotalPages()
+                : String.valueOf(pagina.hasNext());
+        return etag(pagina.getContent(), totais + ";" + (campos == null ? "*" : new TreeSet<>(campos)));
+    }
+
+    /**
+     * ETag fraco de uma página: resumo dos pares ID/versão do conteúdo e dos metadados de paginação.
+     */
+    private static String etag(List<ProdutoResponse> conteudo, String metadados) {
+        StringBuilder chave = new StringBuilder(conteudo.size() * 12 + 32);
+        conteudo.forEach(produto -> chave.append(produto.id()).append(':').append(produto.versao()).append(';'));
+        chave.append(metadados);
+        return "W/\"" + DigestUtils.md5DigestAsHex(chave.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Versão esperada a partir do cabeçalho {@code If-Match}; {@code *} ou ausente não restringem a versão.
+     */
+    private static Long versaoEsperada(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String valor = ifMatch.trim();
+        if (valor.startsWith("W/")) {
+            valor = valor.substring(2);
+        }
+        try {
+            return Long.valueOf(valor.replace("\"", ""));
+        } catch (NumberFormatException ex) {
+            throw new PreconditionFailedException("ETag inválido em If-Match: " + ifMatch);
+        }
+    }
+}
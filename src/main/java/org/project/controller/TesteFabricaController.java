@@ -1,16 +1,37 @@
 package org.project.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.project.annotation.MetricaOperacao;
 import org.project.domain.enums.CarroStatus;
+import org.project.domain.enums.ModeloCarro;
+import org.project.domain.enums.Montadora;
+import org.project.domain.enums.TipoChave;
 import org.project.domain.object.Chave;
+import org.project.domain.object.Motor;
+import org.project.domain.request.TesteFabricaLoteRequest;
+import org.project.domain.response.TesteFabricaResultadoResponse;
 import org.project.service.TesteFabricaService;
+import org.project.util.MetricaName;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.List;
 
 @AllArgsConstructor
 @RestController
@@ -18,11 +39,14 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Testes de Fábrica", description = "Gerenciamento de execuções de testes de fábrica")
 public class TesteFabricaController {
     private final TesteFabricaService service;
+    private final ObjectMapper objectMapper;
 
     @Operation(
-            summary = "Ligar Carro com Motor Aspirado",
+            summary = "Ligar Carro",
             description = """
-                    Simula a tentativa de ligar um carro utilizando o motor aspirado configurado na fábrica.
+                    Simula a tentativa de ligar o carro padrão equipado com o motor informado no caminho:
+                    o nome de qualquer motor presente no catálogo de motores, sem diferenciar maiúsculas e
+                    minúsculas (ex: `turbo`). Motores novos passam a valer após recarregar o catálogo.
 
                     **Dados Obrigatórios (Request Body):**
                     Objeto `Chave` contendo:
@@ -32,53 +56,112 @@ public class TesteFabricaController {
                     **Resposta de Sucesso (HTTP 200 OK):**
                     Retorna o objeto `CarroStatus` resultante da tentativa de ignição,
                     incluindo o status e a descrição da operação.
+
+                    **Resposta de Erro (HTTP 404 Not Found):**
+                    Motor inexistente no catálogo atual.
                     """
     )
-    @PostMapping("/aspirado")
-    public ResponseEntity<CarroStatus> ligarCarroAspirado(@RequestBody final Chave chave) {
-        CarroStatus response = service.ligarCarroComMotorAspirado(chave);
+    @PostMapping("/{motor}")
+    @MetricaOperacao(servico = MetricaName.SERVICO_TESTE_FABRICA, operacao = "ligarCarro")
+    public ResponseEntity<CarroStatus> ligarCarro(@PathVariable final String motor, @RequestBody final Chave chave) {
+        CarroStatus response = service.ligarCarro(motor, chave);
         return ResponseEntity.ok(response);
     }
 
     @Operation(
-            summary = "Ligar Carro com Motor Aspirado",
+            summary = "Recarregar Catálogo de Motores",
             description = """
-                    Simula a tentativa de ligar um carro utilizando o motor aspirado configurado na fábrica.
-
-                    **Dados Obrigatórios (Request Body):**
-                    Objeto `Chave` contendo:
-                    * `montadora`: Montadora da chave (Enum ou String).
-                    * `tipo`: Tipo da chave (Enum, ex: TRADICIONAL, SMART).
+                    Relê o arquivo do catálogo de motores (`testes-fabrica.catalogo-motores`) e substitui
+                    atomicamente os motores disponíveis, sem reiniciar a aplicação. Ignições em andamento
+                    terminam com a versão anterior.
 
                     **Resposta de Sucesso (HTTP 200 OK):**
-                    Retorna o objeto `CarroStatus` resultante da tentativa de ignição,
-                    incluindo o status e a descrição da operação.
+                    Lista dos motores carregados.
+
+                    **Resposta de Erro (HTTP 422 Unprocessable Entity):**
+                    Arquivo inválido (JSON malformado, motor sem nome ou tipo, nome repetido ou catálogo vazio);
+                    o catálogo anterior é mantido.
+
+                    **Resposta de Erro (HTTP 500 Internal Server Error):**
+                    Arquivo ilegível; o catálogo anterior é mantido.
                     """
     )
-    @PostMapping("/eletrico")
-    public ResponseEntity<CarroStatus> ligarCarroEletrico(@RequestBody final Chave chave) {
-        CarroStatus response = service.ligarCarroComMotorEletrico(chave);
-        return ResponseEntity.ok(response);
+    @PostMapping("/motores/recarregar")
+    public ResponseEntity<Collection<Motor>> recarregarMotores() {
+        return ResponseEntity.ok(service.recarregarMotores());
     }
 
     @Operation(
-            summary = "Ligar Carro com Motor Turbo",
+            summary = "Simular Ignições em Lote",
             description = """
-                    Simula a tentativa de ligar um carro utilizando o motor turbo configurado na fábrica.
-
-                    **Dados Obrigatórios (Request Body):**
-                    Objeto `Chave` contendo:
-                    * `montadora`: Montadora da chave (Enum ou String).
-                    * `tipo`: Tipo da chave (Enum, ex: TRADICIONAL, SMART).
+                    Executa em paralelo a matriz de ignições `chaves × motores × modelos`, repetindo cada combinação
+                    `repeticoes` vezes, e transmite os resultados em NDJSON à medida que cada combinação termina.
+                    
+                    **Dados Opcionais (Request Body):**
+                    * `chaves`: Lista de objetos `Chave` (`montadora`, `tipo`). Vazio: todas as combinações de montadora e tipo.
+                    * `motores`: Lista de nomes de motor do catálogo (ex: `turbo`). Vazio: todos.
+                    * `modelos`: Lista de modelos de carro. Vazio: todos os modelos disponíveis.
+                    * `repeticoes`: Ignições por combinação (padrão 1).
+                    
+                    **Resposta de Sucesso (HTTP 200 OK):**
+                    Uma linha por combinação (`chave`, `motor`, `modelo`, `ignicoes` e contagem por `CarroStatus`),
+                    em ordem de conclusão, seguida de uma última linha com os totais (`combinacoes`, `ignicoes`,
+                    `status`, `duracaoMs`).
+                    
+                    **Resposta de Erro (HTTP 400 Bad Request):**
+                    Chave incompleta, modelo ou motor indisponível ou lote acima do limite de ignições.
+                    """
+    )
+    @PostMapping(path = "/lote", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> ligarCarrosEmLote(@RequestBody @Valid final TesteFabricaLoteRequest request) {
+        TesteFabricaService.PlanoLote plano = service.planejarLote(request);
+        ObjectWriter writer = objectMapper.writer();
+        StreamingResponseBody body = out -> {
+            try {
+                var resumo = service.executarLote(plano, resultado -> {
+                    try {
+                        out.write(writer.writeValueAsBytes(resultado));
+                        out.write('\n');
+                        out.flush();
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                out.write(writer.writeValueAsBytes(resumo));
+                out.write('\n');
+                out.flush();
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
 
+    @Operation(
+            summary = "Consultar Histórico de Ignições",
+            description = """
+                    Retorna o histórico de ignições registrado pelos testes de fábrica (individuais e em lote),
+                    agregado por combinação de chave, motor e modelo.
+                    
+                    **Filtros Opcionais (Query Params):**
+                    * `montadora`: Montadora da chave.
+                    * `tipoChave`: Tipo da chave.
+                    * `motor`: Nome do motor no catálogo.
+                    * `modelo`: Modelo do carro.
+                    
                     **Resposta de Sucesso (HTTP 200 OK):**
-                    Retorna o objeto `CarroStatus` resultante da tentativa de ignição,
-                    incluindo o status e a descrição da operação.
+                    Lista com o total de ignições, a contagem por `CarroStatus` e a taxa de sucesso de cada combinação.
+                    Resultados recentes podem ainda não estar gravados no banco, mas já constam nos totais.
                     """
     )
-    @PostMapping("/turbo")
-    public ResponseEntity<CarroStatus> ligarCarroTurbo(@RequestBody final Chave chave) {
-        CarroStatus response = service.ligarCarroComMotorTurbo(chave);
-        return ResponseEntity.ok(response);
+    @GetMapping("/resultados")
+    @MetricaOperacao(servico = MetricaName.SERVICO_TESTE_FABRICA, operacao = "consultarResultados")
+    public ResponseEntity<List<TesteFabricaResultadoResponse>> consultarResultados(
+            @RequestParam(required = false) final Montadora montadora,
+            @RequestParam(required = false) final TipoChave tipoChave,
+            @RequestParam(required = false) final String motor,
+            @RequestParam(required = false) final ModeloCarro modelo
+    ) {
+        return ResponseEntity.ok(service.consultarResultados(montadora, tipoChave, motor, modelo));
     }
-}
\ No newline at end of file
+}
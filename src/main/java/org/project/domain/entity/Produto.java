@@ -7,17 +7,28 @@ import jakarta.validation.constraints.Positive;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.project.util.CacheName;
 
 import java.math.BigDecimal;
 
+/**
+ * Produto do catálogo. Guardado no cache de segundo nível do Hibernate (região {@link CacheName#REGIAO_PRODUTO}),
+ * de modo que carregamentos por ID, inclusive os métodos derivados do Spring Data, evitam o banco.
+ * As escritas em massa de {@code ProdutoRepositoryCustom} invalidam apenas as entradas afetadas.
+ */
 @Entity
 @Table(name = "produto")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheName.REGIAO_PRODUTO)
 @Getter
 @Setter
 @NoArgsConstructor
 public class Produto {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "produto_seq")
+    @SequenceGenerator(name = "produto_seq", sequenceName = "produto_seq", allocationSize = 50)
     @Column(nullable = false)
     private Integer id;
 
@@ -33,4 +44,8 @@ public class Produto {
     @NotNull(message = "{validacao.campo.obrigatorio}")
     @Positive(message = "{validacao.campo.positivo}")
     private BigDecimal preco;
-}
\ No newline at end of file
+
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+}
@@ -4,5 +4,6 @@ public enum ModeloCarro {
     HVR,
     XPTO_0,
     XPTO_1,
-    TH_40
+    TH_40,
+    COROLLA
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package org.project.domain.enums;
+
+/**
+ * Estratégia de contagem de resultados da busca paginada de produtos.
+ */
+public enum ModoContagem {
+    /** Executa {@code count(*)} a cada página (retorna {@code Page}). */
+    EXATA,
+    /** Não conta: lê {@code size + 1} registros e retorna apenas {@code hasNext} ({@code Slice}). */
+    NENHUMA,
+    /** Usa uma contagem mantida em cache por critério de busca normalizado (retorna {@code Page}). */
+    APROXIMADA
+}
@@ -0,0 +1,8 @@
+package org.project.domain.enums;
+
+public enum SituacaoImportacao {
+    PENDENTE,
+    EM_EXECUCAO,
+    CONCLUIDA,
+    FALHA
+}
@@ -14,11 +14,13 @@ import org.project.domain.response.ProdutoResponse;
 )
 public interface ProdutoMapper {
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "versao", ignore = true)
     Produto toEntity(ProdutoSalvarRequest request);
 
     ProdutoResponse toResponse(Produto produto);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "versao", ignore = true)
     void toRequest(ProdutoAtualizarRequest request, @MappingTarget Produto produto);
 }
\ No newline at end of file
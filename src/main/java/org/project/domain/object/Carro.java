@@ -1,30 +1,24 @@
 package org.project.domain.object;
 
-import lombok.*;
 import org.project.domain.enums.CarroStatus;
 import org.project.domain.enums.ModeloCarro;
 import org.project.domain.enums.Montadora;
 
 import java.awt.*;
 
-@Getter
-@Setter
-@ToString
-public class Carro {
-    private ModeloCarro modelo;
-    private Color cor;
-    private Motor motor;
-    private Montadora montadora;
-
-    public Carro(Motor motor) {
-        this.motor = motor;
-    }
-
+/**
+ * Carro imutável, definido por configuração e compartilhado pelo {@link RegistroCarros}.
+ * A ignição não altera estado, podendo ser chamada concorrentemente sobre a mesma instância;
+ * o resultado vem da {@link TabelaIgnicao} compilada na inicialização.
+ */
+public record Carro(
+        ModeloCarro modelo,
+        Montadora montadora,
+        Color cor,
+        Motor motor,
+        TabelaIgnicao tabelaIgnicao
+) {
     public CarroStatus ignicao(Chave chave) {
-        if(chave.getMontadora() != montadora) {
-            return CarroStatus.FALHA_AO_LIGAR;
-        }
-
-        return CarroStatus.LIGADO;
+        return tabelaIgnicao.status(chave, this);
     }
-}
\ No newline at end of file
+}
@@ -4,10 +4,38 @@ import lombok.*;
 import org.project.domain.enums.Montadora;
 import org.project.domain.enums.TipoChave;
 
+/**
+ * Chave usada na ignição. Junto de cada campo fica a sua posição na {@link TabelaIgnicao} (o ordinal, ou a posição
+ * extra reservada ao valor nulo), calculada uma única vez na atribuição, para que a consulta da tabela seja apenas
+ * um acesso ao array.
+ */
 @Getter
 @Setter
 @ToString
 public class Chave {
+    static final int SEM_MONTADORA = Montadora.values().length;
+    static final int SEM_TIPO = TipoChave.values().length;
+
     private Montadora montadora;
     private TipoChave tipo;
-}
\ No newline at end of file
+
+    @ToString.Exclude
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.NONE)
+    private int indiceMontadora = SEM_MONTADORA;
+
+    @ToString.Exclude
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.NONE)
+    private int indiceTipo = SEM_TIPO;
+
+    public void setMontadora(Montadora montadora) {
+        this.montadora = montadora;
+        this.indiceMontadora = montadora == null ? SEM_MONTADORA : montadora.ordinal();
+    }
+
+    public void setTipo(TipoChave tipo) {
+        this.tipo = tipo;
+        this.indiceTipo = tipo == null ? SEM_TIPO : tipo.ordinal();
+    }
+}
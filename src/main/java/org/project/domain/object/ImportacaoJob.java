@@ -0,0 +1,56 @@
+package org.project.domain.object;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.project.domain.enums.SituacaoImportacao;
+import org.project.domain.response.ProdutoLoteResponse;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Estado de uma importação de produtos em andamento ou finalizada.
+ * Escrito pela thread de processamento e lido pelas requisições de consulta de andamento.
+ */
+@Getter
+@ToString(exclude = "erros")
+public class ImportacaoJob {
+    private final UUID id = UUID.randomUUID();
+    private final String arquivo;
+    private final Instant criadoEm = Instant.now();
+
+    private volatile SituacaoImportacao situacao = SituacaoImportacao.PENDENTE;
+    private volatile long processados;
+    private volatile long criados;
+    private volatile long quantidadeErros;
+    private volatile List<ProdutoLoteResponse.Erro> erros = List.of();
+    private volatile String mensagem;
+    private volatile Instant finalizadoEm;
+
+    public ImportacaoJob(String arquivo) {
+        this.arquivo = arquivo;
+    }
+
+    public void iniciar() {
+        situacao = SituacaoImportacao.EM_EXECUCAO;
+    }
+
+    public void atualizar(long processados, long criados, long quantidadeErros) {
+        this.processados = processados;
+        this.criados = criados;
+        this.quantidadeErros = quantidadeErros;
+    }
+
+    public void concluir(ProdutoLoteResponse resultado) {
+        this.erros = List.copyOf(resultado.erros());
+        this.finalizadoEm = Instant.now();
+        this.situacao = SituacaoImportacao.CONCLUIDA;
+    }
+
+    public void falhar(String mensagem) {
+        this.mensagem = mensagem;
+        this.finalizadoEm = Instant.now();
+        this.situacao = SituacaoImportacao.FALHA;
+    }
+}
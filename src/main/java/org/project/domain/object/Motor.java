@@ -1,16 +1,23 @@
 package org.project.domain.object;
 
-import lombok.*;
 import org.project.domain.enums.ModeloCarro;
 import org.project.domain.enums.TipoMotor;
 
-@Getter
-@Setter
-@ToString
-public class Motor {
-    private ModeloCarro modelo;
-    private Integer cavalos;
-    private Integer cilindros;
-    private Double litragem;
-    private TipoMotor tipo;
-}
\ No newline at end of file
+/**
+ * Especificação imutável de um motor, compartilhada entre todos os carros que o utilizam.
+ *
+ * @param nome      Nome do motor no catálogo, usado para identificá-lo (ex: {@code turbo}).
+ * @param modelo    Modelo do motor.
+ * @param cavalos   Potência, em cavalos.
+ * @param cilindros Quantidade de cilindros.
+ * @param litragem  Cilindrada, em litros.
+ * @param tipo      Categoria do motor, considerada pelas regras de ignição.
+ */
+public record Motor(
+        String nome,
+        ModeloCarro modelo,
+        Integer cavalos,
+        Integer cilindros,
+        Double litragem,
+        TipoMotor tipo
+) { }
@@ -0,0 +1,87 @@
+package org.project.domain.object;
+
+import org.project.domain.enums.ModeloCarro;
+import org.project.domain.enums.Montadora;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Registro imutável dos carros disponíveis, uma instância compartilhada por {@code ModeloCarro × motor do catálogo}.
+ * <p>
+ * Construído pelo {@code CatalogoMotores} a cada carga do catálogo, a partir dos modelos configurados
+ * e dos motores disponíveis. A consulta localiza o motor pelo nome e o modelo pelo ordinal, sem alocação por chamada.
+ */
+public final class RegistroCarros {
+    private final Map<String, Carro[]> carros;
+    private final Set<ModeloCarro> modelos;
+    private final List<Carro> todos;
+
+    /**
+     * @param modelos Modelos configurados: cada um é montado com cada um dos motores.
+     * @param motores Motores disponíveis, com nomes distintos.
+     * @param tabelaIgnicao Tabela de decisão usada pela ignição de todos os carros.
+     */
+    public RegistroCarros(Collection<Modelo> modelos, Collection<Motor> motores, TabelaIgnicao tabelaIgnicao) {
+        Map<String, Carro[]> porMotor = new HashMap<>();
+        List<Carro> lista = new ArrayList<>();
+        Set<ModeloCarro> disponiveis = EnumSet.noneOf(ModeloCarro.class);
+        for (Modelo modelo : modelos) {
+            disponiveis.add(modelo.modelo());
+            for (Motor motor : motores) {
+                Carro carro = new Carro(modelo.modelo(), modelo.montadora(), modelo.cor(), motor, tabelaIgnicao);
+                porMotor.computeIfAbsent(motor.nome(), nome -> new Carro[ModeloCarro.values().length])[modelo.modelo().ordinal()] = carro;
+                lista.add(carro);
+            }
+        }
+        this.carros = Map.copyOf(porMotor);
+        this.modelos = Collections.unmodifiableSet(disponiveis);
+        this.todos = List.copyOf(lista);
+    }
+
+    /**
+     * Definição de um modelo de carro.
+     */
+    public record Modelo(ModeloCarro modelo, Montadora montadora, Color cor) { }
+
+    /**
+     * @return O carro do modelo com o motor informado.
+     * @throws NoSuchElementException se o modelo não estiver configurado ou não houver motor com o nome informado.
+     */
+    public Carro carro(ModeloCarro modelo, String motor) {
+        Carro carro = buscar(modelo, motor);
+        if (carro == null) {
+            throw new NoSuchElementException("Carro não disponível: " + modelo + " com motor " + motor);
+        }
+        return carro;
+    }
+
+    public boolean contem(ModeloCarro modelo, String motor) {
+        return buscar(modelo, motor) != null;
+    }
+
+    public Set<ModeloCarro> modelos() {
+        return modelos;
+    }
+
+    public List<Carro> carros() {
+        return todos;
+    }
+
+    public List<Carro> carros(Montadora montadora) {
+        return todos.stream().filter(carro -> carro.montadora() == montadora).toList();
+    }
+
+    private Carro buscar(ModeloCarro modelo, String motor) {
+        Carro[] porModelo = carros.get(motor);
+        return porModelo == null ? null : porModelo[modelo.ordinal()];
+    }
+}
@@ -0,0 +1,29 @@
+package org.project.domain.object;
+
+import org.project.domain.enums.CarroStatus;
+import org.project.domain.enums.ModeloCarro;
+import org.project.domain.enums.Montadora;
+import org.project.domain.enums.TipoChave;
+
+import java.time.Instant;
+
+/**
+ * Resultado de ignições de um teste de fábrica, como gravado em {@code resultado_teste_fabrica}.
+ *
+ * @param montadoraChave Montadora da chave utilizada (pode ser nula).
+ * @param tipoChave      Tipo da chave utilizada (pode ser nulo).
+ * @param motor          Nome do motor do carro no catálogo.
+ * @param modelo         Modelo do carro.
+ * @param status         Situação resultante.
+ * @param quantidade     Quantidade de ignições com esta situação.
+ * @param registradoEm   Momento do registro.
+ */
+public record ResultadoIgnicao(
+        Montadora montadoraChave,
+        TipoChave tipoChave,
+        String motor,
+        ModeloCarro modelo,
+        CarroStatus status,
+        long quantidade,
+        Instant registradoEm
+) { }
@@ -0,0 +1,116 @@
+package org.project.domain.object;
+
+import org.project.domain.enums.CarroStatus;
+import org.project.domain.enums.ModeloCarro;
+import org.project.domain.enums.Montadora;
+import org.project.domain.enums.TipoChave;
+import org.project.domain.enums.TipoMotor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tabela de decisão de ignição pré-compilada.
+ * <p>
+ * As regras declarativas ({@link Regra}) são avaliadas uma única vez, na construção, para todas as combinações
+ * {@code Montadora da chave × TipoChave × TipoMotor × ModeloCarro}; o resultado fica em uma matriz densa indexada
+ * pelos ordinais dos enums. Chaves sem montadora ou sem tipo ocupam uma posição extra em suas dimensões,
+ * já resolvida pela própria {@link Chave}.
+ * A consulta é um cálculo de índice e um acesso ao array, independentemente da quantidade de regras.
+ */
+public final class TabelaIgnicao {
+    private static final Montadora[] MONTADORAS = Montadora.values();
+    private static final TipoChave[] TIPOS_CHAVE = TipoChave.values();
+    private static final TipoMotor[] MOTORES = TipoMotor.values();
+    private static final ModeloCarro[] MODELOS = ModeloCarro.values();
+
+    private static final int DIM_MONTADORA = Chave.SEM_MONTADORA + 1;
+    private static final int DIM_TIPO_CHAVE = Chave.SEM_TIPO + 1;
+
+    /**
+     * Regras equivalentes à ignição original: a chave precisa ser da mesma montadora do carro.
+     */
+    public static final List<Regra> REGRAS_PADRAO = List.of(
+            new Regra(null, null, null, null, false, CarroStatus.FALHA_AO_LIGAR),
+            new Regra(null, null, null, null, null, CarroStatus.LIGADO)
+    );
+
+    private final CarroStatus[] resultados = new CarroStatus[DIM_MONTADORA * DIM_TIPO_CHAVE * MOTORES.length * MODELOS.length];
+
+    /**
+     * Regra de ignição. Condições nulas aceitam qualquer valor; a primeira regra aplicável, na ordem
+     * informada, define o resultado. Combinações sem regra aplicável resultam em {@link CarroStatus#FALHA_AO_LIGAR}.
+     *
+     * @param montadoraChave Montadora da chave.
+     * @param tipoChave      Tipo da chave.
+     * @param motor          Tipo de motor do carro.
+     * @param modelo         Modelo do carro.
+     * @param mesmaMontadora Se a chave deve (ou não) ser da mesma montadora do carro.
+     * @param resultado      Situação resultante quando a regra se aplica (obrigatória).
+     * @throws IllegalArgumentException se o resultado não for informado; como as regras vêm da configuração,
+     *                                  a aplicação deixa de iniciar em vez de falhar na consulta.
+     */
+    public record Regra(
+            Montadora montadoraChave,
+            TipoChave tipoChave,
+            TipoMotor motor,
+            ModeloCarro modelo,
+            Boolean mesmaMontadora,
+            CarroStatus resultado
+    ) {
+        public Regra {
+            if (resultado == null) {
+                throw new IllegalArgumentException("Regra de ignição sem resultado: montadoraChave=" + montadoraChave
+                        + ", tipoChave=" + tipoChave + ", motor=" + motor + ", modelo=" + modelo
+                        + ", mesmaMontadora=" + mesmaMontadora);
+            }
+        }
+
+        boolean aplica(Montadora montadora, TipoChave tipo, TipoMotor tipoMotor, ModeloCarro modeloCarro, boolean mesma) {
+            return (montadoraChave == null || montadoraChave == montadora)
+                    && (tipoChave == null || tipoChave == tipo)
+                    && (motor == null || motor == tipoMotor)
+                    && (modelo == null || modelo == modeloCarro)
+                    && (mesmaMontadora == null || mesmaMontadora == mesma);
+        }
+    }
+
+    /**
+     * @param regras     Regras em ordem de prioridade.
+     * @param montadoras Montadora de cada modelo de carro configurado.
+     */
+    public TabelaIgnicao(List<Regra> regras, Map<ModeloCarro, Montadora> montadoras) {
+        for (int m = 0; m < DIM_MONTADORA; m++) {
+            Montadora montadora = m < Chave.SEM_MONTADORA ? MONTADORAS[m] : null;
+            for (int t = 0; t < DIM_TIPO_CHAVE; t++) {
+                TipoChave tipo = t < Chave.SEM_TIPO ? TIPOS_CHAVE[t] : null;
+                for (TipoMotor motor : MOTORES) {
+                    for (ModeloCarro modelo : MODELOS) {
+                        Montadora montadoraCarro = montadoras.get(modelo);
+                        boolean mesma = montadora != null && montadora == montadoraCarro;
+                        resultados[indice(m, t, motor.ordinal(), modelo.ordinal())] = regras.stream()
+                                .filter(regra -> regra.aplica(montadora, tipo, motor, modelo, mesma))
+                                .map(Regra::resultado)
+                                .findFirst()
+                                .orElse(CarroStatus.FALHA_AO_LIGAR);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return A situação resultante da ignição do carro com a chave informada.
+     */
+    public CarroStatus status(Chave chave, Carro carro) {
+        return resultados[indice(
+                chave.getIndiceMontadora(),
+                chave.getIndiceTipo(),
+                carro.motor().tipo().ordinal(),
+                carro.modelo().ordinal())];
+    }
+
+    private static int indice(int montadora, int tipoChave, int motor, int modelo) {
+        return ((montadora * DIM_TIPO_CHAVE + tipoChave) * MOTORES.length + motor) * MODELOS.length + modelo;
+    }
+}
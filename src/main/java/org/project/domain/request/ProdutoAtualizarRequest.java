@@ -1,13 +1,31 @@
 package org.project.domain.request;
 
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
 
 import java.math.BigDecimal;
 
 public record ProdutoAtualizarRequest(
+        @Pattern(regexp = "(?s).*\\S.*", message = "{validacao.campo.nao-vazio}")
         String nome,
+
+        @Pattern(regexp = "(?s).*\\S.*", message = "{validacao.campo.nao-vazio}")
         String descricao,
 
         @Positive(message = "{validacao.campo.positivo}")
         BigDecimal preco
-) { }
\ No newline at end of file
+) {
+    /**
+     * Indica se nenhum campo foi informado, caso em que não há o que atualizar.
+     */
+    public boolean vazio() {
+        return nome == null && descricao == null && preco == null;
+    }
+
+    /**
+     * Indica se todos os campos foram informados, caso em que o estado gravado é conhecido sem nova leitura.
+     */
+    public boolean completo() {
+        return nome != null && descricao != null && preco != null;
+    }
+}
\ No newline at end of file
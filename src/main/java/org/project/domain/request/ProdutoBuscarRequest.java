@@ -3,6 +3,7 @@ package org.project.domain.request;
 import jakarta.validation.constraints.Positive;
 
 import java.math.BigDecimal;
+import java.util.Locale;
 
 public record ProdutoBuscarRequest(
         String nome,
@@ -13,4 +14,24 @@ public record ProdutoBuscarRequest(
 
         @Positive(message = "{validacao.campo.positivo}")
         BigDecimal maxPreco
-) { }
\ No newline at end of file
+) {
+    /**
+     * Retorna uma cópia normalizada dos critérios (textos aparados e em minúsculas, textos vazios como nulos,
+     * preços sem zeros à direita), de forma que buscas equivalentes tenham a mesma chave de cache.
+     */
+    public ProdutoBuscarRequest normalizado() {
+        return new ProdutoBuscarRequest(normalizarTexto(nome), normalizarTexto(descricao), preco(minPreco), preco(maxPreco));
+    }
+
+    /**
+     * Texto aparado e em minúsculas, independente da localidade da JVM, ou {@code null} se vazio.
+     * Também usado pelos filtros de {@code ProdutoFiltro} e {@code ProdutoSpecification}.
+     */
+    public static String normalizarTexto(String valor) {
+        return valor == null || valor.isBlank() ? null : valor.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static BigDecimal preco(BigDecimal valor) {
+        return valor == null ? null : valor.stripTrailingZeros();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package org.project.domain.request;
+
+import org.project.handler.exception.BadRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Posição de leitura da paginação por cursor (keyset) de produtos.
+ * <p>
+ * Guarda a chave de ordenação e o ID do último registro entregue, de modo que a próxima página
+ * seja obtida com {@code WHERE (chave, id) > (valor, id)} em vez de {@code OFFSET}.
+ * O cliente recebe o cursor como um token opaco (Base64 URL-safe) e deve apenas devolvê-lo no parâmetro {@code after}.
+ *
+ * @param ordenacao Propriedade de ordenação ({@code id}, {@code nome} ou {@code preco}).
+ * @param direcao   Direção da ordenação.
+ * @param id        ID do último registro da página anterior (desempate).
+ * @param valor     Valor da propriedade de ordenação no último registro, em texto.
+ */
+public record ProdutoCursor(
+        String ordenacao,
+        Sort.Direction direcao,
+        Integer id,
+        String valor
+) {
+    private static final String SEPARADOR = ":";
+
+    public String encode() {
+        String raw = String.join(SEPARADOR, ordenacao, direcao.name(), id.toString(), valor);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica o token e valida cada parte, inclusive o valor de busca conforme o tipo da propriedade
+     * de ordenação, de modo que um cursor adulterado seja rejeitado aqui e não na montagem da consulta.
+     *
+     * @throws BadRequestException se o token estiver malformado ou o valor não for do tipo da ordenação.
+     */
+    public static ProdutoCursor decode(final String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] partes = raw.split(SEPARADOR, 4);
+            ProdutoCursor cursor = new ProdutoCursor(partes[0], Sort.Direction.valueOf(partes[1]), Integer.valueOf(partes[2]), partes[3]);
+            switch (cursor.ordenacao()) {
+                case "id", "nome" -> { }
+                case "preco" -> new BigDecimal(cursor.valor());
+                default -> throw new BadRequestException("Cursor de paginação inválido: " + token);
+            }
+            return cursor;
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+            throw new BadRequestException("Cursor de paginação inválido: " + token, ex);
+        }
+    }
+}
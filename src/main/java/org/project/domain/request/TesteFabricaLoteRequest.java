@@ -0,0 +1,32 @@
+package org.project.domain.request;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import org.project.domain.enums.ModeloCarro;
+import org.project.domain.object.Chave;
+
+import java.util.List;
+
+/**
+ * Matriz de ignições a simular: cada combinação {@code chave × motor × modelo} é executada {@code repeticoes} vezes.
+ * Listas nulas ou vazias geram a matriz completa da dimensão (todas as chaves {@code Montadora × TipoChave},
+ * todos os motores do catálogo ou todos os modelos disponíveis). Cada lista aceita no máximo 100 itens.
+ *
+ * @param chaves     Chaves a testar.
+ * @param motores    Nomes dos motores do catálogo a testar (sem diferenciar maiúsculas e minúsculas).
+ * @param modelos    Modelos de carro a testar.
+ * @param repeticoes Ignições por combinação (padrão 1).
+ */
+public record TesteFabricaLoteRequest(
+        @Size(max = 100, message = "{validacao.lista.tamanho}")
+        List<Chave> chaves,
+
+        @Size(max = 100, message = "{validacao.lista.tamanho}")
+        List<String> motores,
+
+        @Size(max = 100, message = "{validacao.lista.tamanho}")
+        List<ModeloCarro> modelos,
+
+        @Positive(message = "{validacao.campo.positivo}")
+        Long repeticoes
+) { }
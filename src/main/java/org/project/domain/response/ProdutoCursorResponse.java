@@ -0,0 +1,9 @@
+package org.project.domain.response;
+
+import java.util.List;
+
+public record ProdutoCursorResponse(
+        List<ProdutoResponse> content,
+        String next,
+        boolean hasNext
+) { }
@@ -0,0 +1,10 @@
+package org.project.domain.response;
+
+/**
+ * @param solicitados Quantidade de IDs distintos informados.
+ * @param excluidos   Quantidade de produtos efetivamente excluídos (IDs inexistentes são ignorados).
+ */
+public record ProdutoExclusaoResponse(
+        int solicitados,
+        int excluidos
+) { }
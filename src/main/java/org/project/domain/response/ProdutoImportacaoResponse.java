@@ -0,0 +1,28 @@
+package org.project.domain.response;
+
+import org.project.domain.enums.SituacaoImportacao;
+import org.project.domain.object.ImportacaoJob;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record ProdutoImportacaoResponse(
+        UUID id,
+        String arquivo,
+        SituacaoImportacao situacao,
+        long processados,
+        long criados,
+        long quantidadeErros,
+        List<ProdutoLoteResponse.Erro> erros,
+        String mensagem,
+        Instant criadoEm,
+        Instant finalizadoEm
+) {
+    public static ProdutoImportacaoResponse de(ImportacaoJob job) {
+        return new ProdutoImportacaoResponse(
+                job.getId(), job.getArquivo(), job.getSituacao(), job.getProcessados(), job.getCriados(),
+                job.getQuantidadeErros(), job.getErros(), job.getMensagem(), job.getCriadoEm(), job.getFinalizadoEm()
+        );
+    }
+}
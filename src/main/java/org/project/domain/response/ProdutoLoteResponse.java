@@ -0,0 +1,18 @@
+package org.project.domain.response;
+
+import java.util.List;
+
+public record ProdutoLoteResponse(
+        long total,
+        long criados,
+        List<Erro> erros
+) {
+    /**
+     * @param indice   Posição do item na entrada (baseada em zero).
+     * @param mensagem Motivo da rejeição do item.
+     */
+    public record Erro(
+            long indice,
+            String mensagem
+    ) { }
+}
@@ -0,0 +1,22 @@
+package org.project.domain.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+
+/**
+ * Produto devolvido por buscas com campos esparsos ({@code ?fields=}): os campos não solicitados são omitidos
+ * do JSON em vez de aparecerem como nulos. {@code id} e {@code versao} estão sempre presentes.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProdutoProjecaoResponse(
+        Integer id,
+        String nome,
+        String descricao,
+        BigDecimal preco,
+        Long versao
+) {
+    public static ProdutoProjecaoResponse de(ProdutoResponse produto) {
+        return new ProdutoProjecaoResponse(produto.id(), produto.nome(), produto.descricao(), produto.preco(), produto.versao());
+    }
+}
@@ -2,9 +2,14 @@ package org.project.domain.response;
 
 import java.math.BigDecimal;
 
+/**
+ * Produto devolvido pela API, sempre com todos os campos. Em buscas com campos esparsos ({@code ?fields=}),
+ * os campos não solicitados ficam nulos e a resposta é enviada como {@link ProdutoProjecaoResponse}.
+ */
 public record ProdutoResponse(
         Integer id,
         String nome,
         String descricao,
-        BigDecimal preco
-) { }
\ No newline at end of file
+        BigDecimal preco,
+        Long versao
+) { }
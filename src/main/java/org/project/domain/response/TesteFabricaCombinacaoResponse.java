@@ -0,0 +1,24 @@
+package org.project.domain.response;
+
+import org.project.domain.enums.CarroStatus;
+import org.project.domain.enums.ModeloCarro;
+import org.project.domain.object.Chave;
+
+import java.util.Map;
+
+/**
+ * Resultado de uma combinação da simulação em lote.
+ *
+ * @param chave    Chave utilizada.
+ * @param motor    Nome do motor no catálogo.
+ * @param modelo   Modelo do carro.
+ * @param ignicoes Quantidade de ignições executadas.
+ * @param status   Quantidade de ignições por situação resultante.
+ */
+public record TesteFabricaCombinacaoResponse(
+        Chave chave,
+        String motor,
+        ModeloCarro modelo,
+        long ignicoes,
+        Map<CarroStatus, Long> status
+) { }
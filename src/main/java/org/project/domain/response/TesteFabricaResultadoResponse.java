@@ -0,0 +1,29 @@
+package org.project.domain.response;
+
+import org.project.domain.enums.CarroStatus;
+import org.project.domain.enums.ModeloCarro;
+import org.project.domain.enums.Montadora;
+import org.project.domain.enums.TipoChave;
+
+import java.util.Map;
+
+/**
+ * Histórico agregado de ignições de uma combinação chave × motor × modelo.
+ *
+ * @param montadoraChave Montadora da chave.
+ * @param tipoChave      Tipo da chave.
+ * @param motor          Nome do motor no catálogo.
+ * @param modelo         Modelo do carro.
+ * @param ignicoes       Total de ignições registradas.
+ * @param status         Quantidade de ignições por situação resultante.
+ * @param taxaSucesso    Fração das ignições que resultaram em {@link CarroStatus#LIGADO}.
+ */
+public record TesteFabricaResultadoResponse(
+        Montadora montadoraChave,
+        TipoChave tipoChave,
+        String motor,
+        ModeloCarro modelo,
+        long ignicoes,
+        Map<CarroStatus, Long> status,
+        double taxaSucesso
+) { }
@@ -0,0 +1,20 @@
+package org.project.domain.response;
+
+import org.project.domain.enums.CarroStatus;
+
+import java.util.Map;
+
+/**
+ * Totais da simulação em lote (última linha da resposta em fluxo).
+ *
+ * @param combinacoes Quantidade de combinações executadas.
+ * @param ignicoes    Quantidade total de ignições.
+ * @param status      Quantidade total de ignições por situação resultante.
+ * @param duracaoMs   Duração da simulação, em milissegundos.
+ */
+public record TesteFabricaResumoResponse(
+        long combinacoes,
+        long ignicoes,
+        Map<CarroStatus, Long> status,
+        long duracaoMs
+) { }
@@ -2,7 +2,10 @@ package org.project.handler;
 
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.project.handler.exception.BadRequestException;
+import org.project.handler.exception.PreconditionFailedException;
 import org.project.handler.exception.ResourceNotFoundException;
+import org.project.handler.exception.UnprocessableEntityException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -125,4 +128,56 @@ public class GlobalExceptionHandler {
         log.warn("Requisição [{}]: Recurso não encontrado. Detalhes: {}", request.getDescription(false), ex.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
     }
-}
\ No newline at end of file
+
+    /**
+     * Handler para BadRequestException.
+     * Captura a exceção BadRequestException lançada pela camada de serviço quando os
+     * parâmetros da requisição são sintaticamente válidos, mas não podem ser processados
+     * (ex: cursor de paginação inválido).
+     * <p>
+     * SUMÁRIO: Trata erros de requisição inválida (400 BAD REQUEST).
+     *
+     * @param ex      A exceção BadRequestException capturada, contendo a mensagem do erro.
+     * @param request O contexto da requisição web.
+     * @return ResponseEntity contendo a mensagem da exceção e a situação 400 BAD REQUEST.
+     */
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<String> handleBadRequest(BadRequestException ex, WebRequest request) {
+        log.warn("Requisição [{}]: Requisição inválida. Detalhes: {}", request.getDescription(false), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+
+    /**
+     * Handler para PreconditionFailedException.
+     * Captura a exceção lançada quando a versão informada em {@code If-Match} não corresponde
+     * à versão atual do recurso.
+     * <p>
+     * SUMÁRIO: Trata erros de pré-condição (412 PRECONDITION FAILED).
+     *
+     * @param ex      A exceção PreconditionFailedException capturada, contendo a mensagem do erro.
+     * @param request O contexto da requisição web.
+     * @return ResponseEntity contendo a mensagem da exceção e a situação 412 PRECONDITION FAILED.
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<String> handlePreconditionFailed(PreconditionFailedException ex, WebRequest request) {
+        log.warn("Requisição [{}]: Pré-condição não atendida. Detalhes: {}", request.getDescription(false), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(ex.getMessage());
+    }
+
+    /**
+     * Handler para UnprocessableEntityException.
+     * Captura a exceção lançada quando o conteúdo a ser processado é inválido,
+     * como um catálogo de motores malformado (o catálogo anterior é mantido).
+     * <p>
+     * SUMÁRIO: Trata erros de conteúdo não processável (422 UNPROCESSABLE ENTITY).
+     *
+     * @param ex      A exceção UnprocessableEntityException capturada, contendo a mensagem do erro.
+     * @param request O contexto da requisição web.
+     * @return ResponseEntity contendo a mensagem da exceção e a situação 422 UNPROCESSABLE ENTITY.
+     */
+    @ExceptionHandler(UnprocessableEntityException.class)
+    public ResponseEntity<String> handleUnprocessableEntity(UnprocessableEntityException ex, WebRequest request) {
+        log.warn("Requisição [{}]: Conteúdo não processável. Detalhes: {}", request.getDescription(false), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(ex.getMessage());
+    }
+}
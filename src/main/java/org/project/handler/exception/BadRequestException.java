@@ -0,0 +1,34 @@
+package org.project.handler.exception;
+
+/**
+ * Exceção customizada que indica que a requisição do cliente é inválida por um motivo
+ * que não é coberto pela Bean Validation (por exemplo, um cursor de paginação corrompido
+ * ou uma combinação de parâmetros não suportada).
+ * <p>
+ * Um handler de exceções apropriado (como em um {@link org.springframework.web.bind.annotation.RestControllerAdvice GlobalExceptionHandler})
+ * deve capturar esta exceção e mapeá-la para uma resposta HTTP com status {@code 400 BAD REQUEST}.
+ *
+ * @see org.project.handler.GlobalExceptionHandler
+ */
+public class BadRequestException extends RuntimeException {
+
+    /**
+     * Construtor que cria uma nova exceção BadRequestException com uma mensagem detalhada.
+     *
+     * @param message A mensagem detalhada do erro.
+     */
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    /**
+     * Construtor que cria uma nova exceção BadRequestException com uma mensagem
+     * detalhada e a causa subjacente.
+     *
+     * @param message A mensagem detalhada do erro.
+     * @param cause   A causa subjacente da exceção (salva para recuperação posterior).
+     */
+    public BadRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,23 @@
+package org.project.handler.exception;
+
+/**
+ * Exceção customizada que indica que uma pré-condição da requisição não foi atendida,
+ * como um cabeçalho {@code If-Match} cuja versão não corresponde mais à versão atual do recurso.
+ * <p>
+ * Um handler de exceções apropriado (como em um {@link org.springframework.web.bind.annotation.RestControllerAdvice GlobalExceptionHandler})
+ * deve capturar esta exceção e mapeá-la para uma resposta HTTP com status {@code 412 PRECONDITION FAILED},
+ * indicando ao cliente que ele deve obter a versão atual antes de tentar novamente.
+ *
+ * @see org.project.handler.GlobalExceptionHandler
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    /**
+     * Construtor que cria uma nova exceção PreconditionFailedException com uma mensagem detalhada.
+     *
+     * @param message A mensagem detalhada do erro.
+     */
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,33 @@
+package org.project.handler.exception;
+
+/**
+ * Exceção customizada que indica que a requisição é válida, mas o conteúdo que ela manda processar
+ * não pode ser aceito (por exemplo, um catálogo de motores malformado a ser recarregado).
+ * <p>
+ * Um handler de exceções apropriado (como em um {@link org.springframework.web.bind.annotation.RestControllerAdvice GlobalExceptionHandler})
+ * deve capturar esta exceção e mapeá-la para uma resposta HTTP com status {@code 422 UNPROCESSABLE ENTITY}.
+ *
+ * @see org.project.handler.GlobalExceptionHandler
+ */
+public class UnprocessableEntityException extends RuntimeException {
+
+    /**
+     * Construtor que cria uma nova exceção UnprocessableEntityException com uma mensagem detalhada.
+     *
+     * @param message A mensagem detalhada do erro.
+     */
+    public UnprocessableEntityException(String message) {
+        super(message);
+    }
+
+    /**
+     * Construtor que cria uma nova exceção UnprocessableEntityException com uma mensagem
+     * detalhada e a causa subjacente.
+     *
+     * @param message A mensagem detalhada do erro.
+     * @param cause   A causa subjacente da exceção (salva para recuperação posterior).
+     */
+    public UnprocessableEntityException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,44 @@
+package org.project.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.project.annotation.MetricaOperacao;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Conversor JSON padrão do Spring MVC que, para endpoints anotados com {@link MetricaOperacao},
+ * registra o tempo de escrita do corpo da resposta na etapa {@link MetricasServico.Etapa#SERIALIZACAO}.
+ * Demais respostas são escritas sem medição.
+ */
+public class MedicaoJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+    private final MetricasServico metricas;
+
+    public MedicaoJackson2HttpMessageConverter(ObjectMapper objectMapper, MetricasServico metricas) {
+        super(objectMapper);
+        this.metricas = metricas;
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        RequestAttributes atributos = RequestContextHolder.getRequestAttributes();
+        if (atributos == null
+                || !(atributos.getAttribute(MetricaOperacaoInterceptor.ATRIBUTO, RequestAttributes.SCOPE_REQUEST) instanceof MetricaOperacao operacao)) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        long inicio = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            metricas.registrarEtapa(operacao.servico(), operacao.operacao(), MetricasServico.Etapa.SERIALIZACAO,
+                    System.nanoTime() - inicio);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.project.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.project.annotation.MetricaOperacao;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Guarda na requisição a {@link MetricaOperacao} do endpoint atendido, para que a serialização
+ * da resposta seja medida com as tags da operação de serviço correspondente.
+ */
+public class MetricaOperacaoInterceptor implements HandlerInterceptor {
+    public static final String ATRIBUTO = MetricaOperacao.class.getName();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            MetricaOperacao operacao = handlerMethod.getMethodAnnotation(MetricaOperacao.class);
+            if (operacao != null) {
+                request.setAttribute(ATRIBUTO, operacao);
+            }
+        }
+        return true;
+    }
+}
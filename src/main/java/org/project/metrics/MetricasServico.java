@@ -0,0 +1,141 @@
+package org.project.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.project.util.MetricaName;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Medidores das operações de serviço:
+ * <ul>
+ *     <li>{@code servico.operacao}: duração total da operação (tags {@code servico}, {@code operacao});</li>
+ *     <li>{@code servico.operacao.etapa}: duração de cada etapa da operação (tag adicional {@code etapa},
+ *     ver {@link Etapa});</li>
+ *     <li>{@code servico.operacao.cache}: duração das operações servidas por cache, inclusive acertos
+ *     (tag adicional {@code cache}, ver {@link ResultadoCache});</li>
+ *     <li>{@code servico.busca.resultados}: quantidade de registros retornados por busca;</li>
+ *     <li>{@code servico.operacao.coalescida}: chamadas que aguardaram uma chamada idêntica já em andamento
+ *     em vez de acessar o banco.</li>
+ * </ul>
+ * Os medidores são registrados uma única vez por combinação de tags e reaproveitados nas chamadas seguintes.
+ * Percentis e histogramas são definidos em {@code management.metrics.distribution} e publicados
+ * no formato Prometheus em {@code /actuator/prometheus}.
+ */
+@Component
+@RequiredArgsConstructor
+public class MetricasServico {
+
+    @Getter
+    public enum Etapa {
+        /** Acesso ao banco de dados pelo repositório. */
+        REPOSITORIO,
+        /** Conversão entre DTOs e entidades (MapStruct). */
+        MAPEAMENTO,
+        /** Escrita do corpo da resposta HTTP (Jackson). */
+        SERIALIZACAO;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+    }
+
+    @Getter
+    public enum ResultadoCache {
+        /** Resposta servida pelo cache, sem acessar o banco. */
+        HIT,
+        /** Resposta ausente no cache, obtida do banco e então gravada no cache. */
+        MISS;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+    }
+
+    private record Chave(String servico, String operacao, Etapa etapa) { }
+
+    private record ChaveCache(String servico, String operacao, ResultadoCache resultado) { }
+
+    private final MeterRegistry registry;
+    private final Map<Chave, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<Chave, DistributionSummary> resultados = new ConcurrentHashMap<>();
+    private final Map<Chave, Counter> coalescidas = new ConcurrentHashMap<>();
+    private final Map<ChaveCache, Timer> timersCache = new ConcurrentHashMap<>();
+
+    public <T> T medir(final String servico, final String operacao, final Supplier<T> acao) {
+        return timer(new Chave(servico, operacao, null)).record(acao);
+    }
+
+    public void medir(final String servico, final String operacao, final Runnable acao) {
+        timer(new Chave(servico, operacao, null)).record(acao);
+    }
+
+    public <T> T medirEtapa(final String servico, final String operacao, final Etapa etapa, final Supplier<T> acao) {
+        return timer(new Chave(servico, operacao, etapa)).record(acao);
+    }
+
+    public void medirEtapa(final String servico, final String operacao, final Etapa etapa, final Runnable acao) {
+        timer(new Chave(servico, operacao, etapa)).record(acao);
+    }
+
+    public void registrarEtapa(final String servico, final String operacao, final Etapa etapa, final long nanos) {
+        timer(new Chave(servico, operacao, etapa)).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void registrarCache(final String servico, final String operacao, final ResultadoCache resultado, final long nanos) {
+        timersCache.computeIfAbsent(new ChaveCache(servico, operacao, resultado), chave -> Timer
+                        .builder(MetricaName.SERVICO_OPERACAO_CACHE)
+                        .description("Duração da operação de serviço por resultado do cache")
+                        .tag("servico", chave.servico())
+                        .tag("operacao", chave.operacao())
+                        .tag("cache", chave.resultado().getTag())
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void registrarResultados(final String servico, final String operacao, final int quantidade) {
+        resultados.computeIfAbsent(new Chave(servico, operacao, null), chave -> DistributionSummary
+                        .builder(MetricaName.SERVICO_BUSCA_RESULTADOS)
+                        .description("Quantidade de registros retornados por busca")
+                        .baseUnit("registros")
+                        .tag("servico", chave.servico())
+                        .tag("operacao", chave.operacao())
+                        .register(registry))
+                .record(quantidade);
+    }
+
+    public void registrarCoalescencia(final String servico, final String operacao) {
+        coalescidas.computeIfAbsent(new Chave(servico, operacao, null), chave -> Counter
+                        .builder(MetricaName.SERVICO_OPERACAO_COALESCIDA)
+                        .description("Chamadas atendidas pelo resultado de uma chamada idêntica em andamento")
+                        .tag("servico", chave.servico())
+                        .tag("operacao", chave.operacao())
+                        .register(registry))
+                .increment();
+    }
+
+    private Timer timer(final Chave chave) {
+        return timers.computeIfAbsent(chave, this::registrar);
+    }
+
+    private Timer registrar(final Chave chave) {
+        if (chave.etapa() == null) {
+            return Timer.builder(MetricaName.SERVICO_OPERACAO)
+                    .description("Duração total da operação de serviço")
+                    .tag("servico", chave.servico())
+                    .tag("operacao", chave.operacao())
+                    .register(registry);
+        }
+        return Timer.builder(MetricaName.SERVICO_OPERACAO_ETAPA)
+                .description("Duração de uma etapa da operação de serviço")
+                .tag("servico", chave.servico())
+                .tag("operacao", chave.operacao())
+                .tag("etapa", chave.etapa().getTag())
+                .register(registry);
+    }
+}
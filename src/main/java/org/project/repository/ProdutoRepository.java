@@ -1,9 +1,27 @@
 package org.project.repository;
 
 import org.project.domain.entity.Produto;
+import org.project.repository.projection.ProdutoTexto;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface ProdutoRepository extends JpaRepository<Produto, Integer>, JpaSpecificationExecutor<Produto> { }
\ No newline at end of file
+public interface ProdutoRepository extends JpaRepository<Produto, Integer>, JpaSpecificationExecutor<Produto>, ProdutoRepositoryCustom {
+    /**
+     * Percorre os campos textuais de todos os produtos como DTOs não gerenciados.
+     * Deve ser consumido dentro de uma transação e fechado após o uso.
+     */
+    @Query("select new org.project.repository.projection.ProdutoTexto(p.id, p.nome, p.descricao, p.versao) from Produto p")
+    Stream<ProdutoTexto> streamTextos();
+
+    /**
+     * Lê apenas a versão do produto, sem carregar a entidade (validação de ETag).
+     */
+    @Query("select p.versao from Produto p where p.id = :id")
+    Optional<Long> findVersaoById(Integer id);
+}
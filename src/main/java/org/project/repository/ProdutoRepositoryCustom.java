@@ -0,0 +1,101 @@
+package org.project.repository;
+
+import org.project.domain.entity.Produto;
+import org.project.domain.response.ProdutoResponse;
+import org.project.repository.specification.ProdutoConsultas;
+import org.project.repository.specification.ProdutoFiltro;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Consultas de produto que não são cobertas pelos métodos derivados do Spring Data.
+ * Implementado por {@link ProdutoRepositoryCustomImpl} e incorporado ao {@link ProdutoRepository}.
+ * <p>
+ * As escritas em massa ({@code UPDATE}/{@code DELETE} sem carregar entidades) ficam aqui, e não em {@code @Query},
+ * para invalidar o cache de segundo nível apenas dos IDs afetados: um {@code UPDATE}/{@code DELETE} JPQL faria o
+ * Hibernate esvaziar a região inteira de {@link Produto} a cada escrita. As entradas afetadas ficam travadas no cache
+ * até o fim da transação, e o contexto de persistência é limpo após a escrita.
+ */
+public interface ProdutoRepositoryCustom {
+    /**
+     * Busca uma fatia ({@link Slice}) de produtos sem executar a consulta de contagem.
+     * Lê {@code size + 1} registros a partir do offset para determinar se existe próxima fatia.
+     *
+     * @param spec Critérios de filtro.
+     * @param pageable Paginação e ordenação.
+     * @return Fatia de produtos, com {@link Slice#hasNext()} calculado sem {@code count(*)}.
+     */
+    Slice<Produto> findSlice(Specification<Produto> spec, Pageable pageable);
+
+    /**
+     * Variante de {@link #findSlice(Specification, Pageable)} que projeta as colunas diretamente em
+     * {@link ProdutoResponse} (expressão construtora), sem carregar entidades no contexto de persistência.
+     * Usa a consulta pré-compilada da forma do filtro ({@link ProdutoConsultas}), com os valores vinculados
+     * como parâmetros. Campos fora de {@code campos} são selecionados como {@code NULL};
+     * {@code id} e {@code versao} são sempre selecionados.
+     * Com {@code produto.busca.cache-consultas}, o resultado é guardado no cache de consultas do Hibernate.
+     *
+     * @param filtro Valores de filtro.
+     * @param pageable Paginação e ordenação (propriedades em {@link ProdutoConsultas#ORDENAVEIS}).
+     * @param campos Campos de {@link ProdutoResponse} a selecionar; vazio seleciona todos.
+     * @return Fatia de DTOs, com {@link Slice#hasNext()} calculado sem {@code count(*)}.
+     */
+    Slice<ProdutoResponse> findSliceResponse(ProdutoFiltro filtro, Pageable pageable, Set<String> campos);
+
+    /**
+     * Conta os produtos que atendem ao filtro, usando a consulta de contagem pré-compilada da sua forma
+     * (também guardada no cache de consultas com {@code produto.busca.cache-consultas}).
+     *
+     * @param filtro Valores de filtro.
+     * @return Quantidade de produtos.
+     */
+    long contar(ProdutoFiltro filtro);
+
+    /**
+     * Percorre todos os produtos que atendem aos critérios com um cursor JDBC somente-avanço
+     * ({@code ScrollableResults}), entregando um registro por vez ao consumidor.
+     * Cada entidade é desanexada do contexto de persistência após o consumo, de modo que o uso de memória
+     * não cresce com o tamanho do resultado. Deve ser chamado dentro de uma transação.
+     *
+     * @param spec Critérios de filtro.
+     * @param sort Ordenação.
+     * @param fetchSize Quantidade de linhas trazidas do banco a cada ida ao driver.
+     * @param consumidor Função chamada para cada produto, na ordem do cursor.
+     * @return Quantidade de produtos percorridos.
+     */
+    long percorrer(Specification<Produto> spec, Sort sort, int fetchSize, Consumer<Produto> consumidor);
+
+    /**
+     * Atualiza, em um único {@code UPDATE}, os campos informados (nulos preservam o valor atual) e incrementa a versão.
+     * Quando {@code versao} é informada, só atualiza se ela ainda for a versão atual.
+     * Se nenhum valor informado difere do gravado, o registro não é tocado e a versão é preservada.
+     * Invalida no cache de segundo nível apenas a entrada do produto (e os resultados de busca em cache).
+     *
+     * @return Quantidade de registros atualizados (0 se o produto não existir, a versão não corresponder
+     * ou nada mudar).
+     */
+    int atualizarParcialmente(Integer id, String nome, String descricao, BigDecimal preco, Long versao);
+
+    /**
+     * Exclui o produto em um único {@code DELETE}, sem carregá-lo.
+     * Invalida no cache de segundo nível apenas a entrada do produto (e os resultados de busca em cache).
+     *
+     * @return Quantidade de registros excluídos (0 se o produto não existir).
+     */
+    int excluirPorId(Integer id);
+
+    /**
+     * Exclui os produtos informados em um único {@code DELETE ... WHERE id IN (...)}, sem carregá-los.
+     * Invalida no cache de segundo nível apenas as entradas desses produtos (e os resultados de busca em cache).
+     *
+     * @return Quantidade de registros excluídos.
+     */
+    int excluirPorIds(Collection<Integer> ids);
+}
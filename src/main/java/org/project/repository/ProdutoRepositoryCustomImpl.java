@@ -0,0 +1,237 @@
+package org.project.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.NativeQuery;
+import org.project.configuration.properties.ProdutoProperties;
+import org.project.domain.entity.Produto;
+import org.project.domain.response.ProdutoResponse;
+import org.project.repository.specification.ProdutoConsultas;
+import org.project.repository.specification.ProdutoFiltro;
+import org.project.util.CacheName;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+public class ProdutoRepositoryCustomImpl implements ProdutoRepositoryCustom {
+
+    /**
+     * Espaço de consulta declarado pelas escritas nativas, que não corresponde a nenhuma tabela mapeada:
+     * assim o Hibernate não esvazia a região de {@link Produto}, e a invalidação fica restrita aos IDs afetados
+     * ({@link #escrever(Collection, NativeQuery)}).
+     */
+    private static final String ESPACO_ESCRITA_DIRETA = "produto_escrita_direta";
+
+    /**
+     * Espaço de consulta da tabela {@code produto}, invalidado nos caches de consulta a cada escrita nativa.
+     */
+    private static final String[] ESPACO_PRODUTO = {"produto"};
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ProdutoProperties properties;
+
+    public ProdutoRepositoryCustomImpl(ProdutoProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public Slice<Produto> findSlice(Specification<Produto> spec, Pageable pageable) {
+        return slice(entityManager.createQuery(criteria(spec, pageable.getSort())), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ProdutoResponse> findSliceResponse(ProdutoFiltro filtro, Pageable pageable, Set<String> campos) {
+        if (filtro.semResultados()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        String jpql = ProdutoConsultas.selecao(filtro.forma(), campos, pageable.getSort());
+        return slice(emCache(filtro.vincular(entityManager.createQuery(jpql, ProdutoResponse.class))), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long contar(ProdutoFiltro filtro) {
+        if (filtro.semResultados()) {
+            return 0;
+        }
+        String jpql = ProdutoConsultas.contagem(filtro.forma());
+        return emCache(filtro.vincular(entityManager.createQuery(jpql, Long.class))).getSingleResult();
+    }
+
+    @Override
+    @Transactional
+    public int atualizarParcialmente(Integer id, String nome, String descricao, BigDecimal preco, Long versao) {
+        return escrever(List.of(id), nativa("""
+                update produto
+                   set nome = coalesce(:nome, nome),
+                       descricao = coalesce(:descricao, descricao),
+                       preco = coalesce(:preco, preco),
+                       versao = versao + 1
+                 where id = :id
+                   and (cast(:versao as bigint) is null or versao = :versao)
+                   and (coalesce(:nome, nome) is distinct from nome
+                        or coalesce(:descricao, descricao) is distinct from descricao
+                        or coalesce(:preco, preco) is distinct from preco)
+                """)
+                .setParameter("id", id, Integer.class)
+                .setParameter("nome", nome, String.class)
+                .setParameter("descricao", descricao, String.class)
+                .setParameter("preco", preco, BigDecimal.class)
+                .setParameter("versao", versao, Long.class));
+    }
+
+    @Override
+    @Transactional
+    public int excluirPorId(Integer id) {
+        return escrever(List.of(id), nativa("delete from produto where id = :id")
+                .setParameter("id", id, Integer.class));
+    }
+
+    @Override
+    @Transactional
+    public int excluirPorIds(Collection<Integer> ids) {
+        return escrever(ids, nativa("delete from produto where id in (:ids)")
+                .setParameterList("ids", ids, Integer.class));
+    }
+
+    @Override
+    public long percorrer(Specification<Produto> spec, Sort sort, int fetchSize, Consumer<Produto> consumidor) {
+        Session session = entityManager.unwrap(Session.class);
+        long total = 0;
+
+        try (ScrollableResults<Produto> resultados = session.createQuery(criteria(spec, sort))
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE)
+                .setFetchSize(fetchSize)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (resultados.next()) {
+                Produto produto = resultados.get();
+                consumidor.accept(produto);
+                session.detach(produto);
+                total++;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Marca a consulta de busca como cacheável (região {@link CacheName#REGIAO_PRODUTO_BUSCA}) quando
+     * {@code produto.busca.cache-consultas} estiver ativo.
+     */
+    private <T> TypedQuery<T> emCache(TypedQuery<T> query) {
+        if (properties.busca().cacheConsultas()) {
+            query.setHint(HibernateHints.HINT_CACHEABLE, true);
+            query.setHint(HibernateHints.HINT_CACHE_REGION, CacheName.REGIAO_PRODUTO_BUSCA);
+        }
+        return query;
+    }
+
+    private NativeQuery<?> nativa(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(ESPACO_ESCRITA_DIRETA);
+    }
+
+    /**
+     * Executa uma escrita nativa nos produtos informados mantendo o cache de segundo nível coerente, como o
+     * Hibernate faz nas atualizações de entidades {@code READ_WRITE}: antes da escrita, trava (soft lock) a entrada
+     * de cada ID e pré-invalida o espaço {@code produto} dos caches de consulta; ao término da transação, libera as
+     * travas e invalida o espaço. Enquanto a entrada está travada, leituras concorrentes não recolocam no cache o
+     * estado anterior ao commit, e após a liberação só são aceitos valores lidos depois dela.
+     * <p>
+     * Alterações pendentes são gravadas antes e o contexto de persistência é limpo depois, para que entidades
+     * já carregadas na transação não continuem com o estado anterior à escrita.
+     *
+     * @return Quantidade de registros afetados.
+     */
+    private int escrever(Collection<Integer> ids, NativeQuery<?> query) {
+        entityManager.flush();
+        travarCache(ids);
+        int afetados = query.executeUpdate();
+        entityManager.clear();
+        return afetados;
+    }
+
+    private void travarCache(Collection<Integer> ids) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        SessionFactoryImplementor sessionFactory = session.getFactory();
+        EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(Produto.class);
+        TimestampsCache timestamps = sessionFactory.getCache().getTimestampsCache();
+
+        Map<Object, SoftLock> travas = new HashMap<>();
+        EntityDataAccess acesso = persister.canWriteToCache() ? persister.getCacheAccessStrategy() : null;
+        if (acesso != null) {
+            for (Integer id : ids) {
+                Object chave = acesso.generateCacheKey(id, persister, sessionFactory, session.getTenantIdentifier());
+                travas.put(chave, acesso.lockItem(session, chave, null));
+            }
+        }
+        timestamps.preInvalidate(ESPACO_PRODUTO, session);
+
+        AfterTransactionCompletionProcess liberar = (sucesso, sessao) -> {
+            travas.forEach((chave, trava) -> acesso.unlockItem(sessao, chave, trava));
+            timestamps.invalidate(ESPACO_PRODUTO, sessao);
+        };
+        session.getActionQueue().registerProcess(liberar);
+    }
+
+    private static <T> Slice<T> slice(TypedQuery<T> query, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.getResultList(), pageable, false);
+        }
+
+        int size = pageable.getPageSize();
+        List<T> resultados = query
+                .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(size + 1)
+                .getResultList();
+
+        boolean hasNext = resultados.size() > size;
+        return new SliceImpl<>(hasNext ? resultados.subList(0, size) : resultados, pageable, hasNext);
+    }
+
+    private CriteriaQuery<Produto> criteria(Specification<Produto> spec, Sort sort) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Produto> query = builder.createQuery(Produto.class);
+        Root<Produto> root = query.from(Produto.class);
+
+        Predicate predicate = spec.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, builder));
+        return query;
+    }
+}
@@ -0,0 +1,77 @@
+package org.project.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.project.domain.enums.CarroStatus;
+import org.project.domain.enums.ModeloCarro;
+import org.project.domain.enums.Montadora;
+import org.project.domain.enums.TipoChave;
+import org.project.domain.object.ResultadoIgnicao;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Acesso via JDBC à tabela {@code resultado_teste_fabrica}, que só recebe inserções.
+ * Não há entidade JPA: os resultados são gravados em lote, sem contexto de persistência.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ResultadoTesteFabricaRepository {
+    private static final String INSERIR = """
+            INSERT INTO resultado_teste_fabrica (montadora_chave, tipo_chave, motor, modelo, status, quantidade, registrado_em)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SOMAR_POR_COMBINACAO = """
+            SELECT montadora_chave, tipo_chave, motor, modelo, status, SUM(quantidade) AS quantidade, MAX(registrado_em) AS registrado_em
+            FROM resultado_teste_fabrica
+            GROUP BY montadora_chave, tipo_chave, motor, modelo, status
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insere os resultados em um único lote JDBC.
+     */
+    public void inserir(List<ResultadoIgnicao> resultados) {
+        jdbcTemplate.batchUpdate(INSERIR, resultados, resultados.size(), (ps, resultado) -> {
+            ps.setString(1, nome(resultado.montadoraChave()));
+            ps.setString(2, nome(resultado.tipoChave()));
+            ps.setString(3, resultado.motor());
+            ps.setString(4, resultado.modelo().name());
+            ps.setString(5, resultado.status().name());
+            ps.setLong(6, resultado.quantidade());
+            ps.setTimestamp(7, Timestamp.from(resultado.registradoEm()));
+        });
+    }
+
+    /**
+     * @return A soma das quantidades gravadas por combinação e situação, com o registro mais recente de cada uma.
+     */
+    public List<ResultadoIgnicao> somarPorCombinacao() {
+        return jdbcTemplate.query(SOMAR_POR_COMBINACAO, this::mapear);
+    }
+
+    private ResultadoIgnicao mapear(ResultSet rs, int linha) throws SQLException {
+        return new ResultadoIgnicao(
+                valor(Montadora.class, rs.getString("montadora_chave")),
+                valor(TipoChave.class, rs.getString("tipo_chave")),
+                rs.getString("motor"),
+                ModeloCarro.valueOf(rs.getString("modelo")),
+                CarroStatus.valueOf(rs.getString("status")),
+                rs.getLong("quantidade"),
+                rs.getTimestamp("registrado_em").toInstant());
+    }
+
+    private static String nome(Enum<?> valor) {
+        return valor == null ? null : valor.name();
+    }
+
+    private static <E extends Enum<E>> E valor(Class<E> tipo, String nome) {
+        return nome == null ? null : Enum.valueOf(tipo, nome);
+    }
+}
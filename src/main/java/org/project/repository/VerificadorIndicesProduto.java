@@ -0,0 +1,74 @@
+package org.project.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.repository.specification.ProdutoSpecification;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Confere, na inicialização, que cada predicado de {@link ProdutoSpecification} tem um índice de apoio:
+ * a coluna declarada em {@link ProdutoSpecification#COLUNAS_POR_PREDICADO} precisa ser a primeira coluna
+ * de algum índice da tabela {@code produto}. Se faltar algum, a inicialização falha, evitando que uma migração
+ * incompleta resulte em varreduras completas da tabela em produção.
+ * <p>
+ * Só são conferidos predicados que um índice B-tree atende; os filtros {@code LIKE '%termo%'} de nome e descrição
+ * dependem do índice de texto em memória e não constam da verificação.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerificadorIndicesProduto {
+    private static final String TABELA = "produto";
+
+    private final DataSource dataSource;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verificar() throws SQLException {
+        Set<String> indexadas = colunasIndexadas();
+
+        Map<String, String> semIndice = new TreeMap<>();
+        ProdutoSpecification.COLUNAS_POR_PREDICADO.forEach((predicado, coluna) -> {
+            if (!indexadas.contains(coluna)) {
+                semIndice.put(predicado, coluna);
+            }
+        });
+        if (!semIndice.isEmpty()) {
+            throw new IllegalStateException("Predicados de ProdutoSpecification sem índice de apoio em '"
+                    + TABELA + "' (predicado=coluna): " + semIndice);
+        }
+        log.debug("Índices de '{}' conferidos para os predicados de busca: {}", TABELA, ProdutoSpecification.COLUNAS_POR_PREDICADO);
+    }
+
+    /**
+     * @return A primeira coluna de cada índice da tabela, em minúsculas.
+     */
+    private Set<String> colunasIndexadas() throws SQLException {
+        Set<String> colunas = new HashSet<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metadados = connection.getMetaData();
+            String tabela = metadados.storesUpperCaseIdentifiers() ? TABELA.toUpperCase(Locale.ROOT) : TABELA;
+            try (ResultSet indices = metadados.getIndexInfo(connection.getCatalog(), connection.getSchema(), tabela, false, true)) {
+                while (indices.next()) {
+                    String coluna = indices.getString("COLUMN_NAME");
+                    if (indices.getShort("ORDINAL_POSITION") == 1 && coluna != null) {
+                        colunas.add(coluna.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+        }
+        return colunas;
+    }
+}
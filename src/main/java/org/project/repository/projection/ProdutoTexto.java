@@ -0,0 +1,12 @@
+package org.project.repository.projection;
+
+/**
+ * Projeção com os campos textuais (e a versão) de um produto, usada para (re)construir o índice de texto
+ * sem carregar entidades gerenciadas no contexto de persistência.
+ */
+public record ProdutoTexto(
+        Integer id,
+        String nome,
+        String descricao,
+        Long versao
+) { }
@@ -0,0 +1,120 @@
+package org.project.repository.specification;
+
+import org.project.domain.response.ProdutoResponse;
+import org.springframework.data.domain.Sort;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Consultas JPQL de busca de produtos, compiladas uma única vez por forma de filtro ({@link ProdutoFiltro#forma()}).
+ * Os valores entram apenas como parâmetros nomeados, de modo que cada forma produz sempre o mesmo texto:
+ * o Hibernate reaproveita o plano já interpretado (cache de planos, chaveado pelo texto da consulta)
+ * e o banco reaproveita o {@code PreparedStatement} e o plano de execução.
+ * <p>
+ * As cláusulas {@code WHERE} e as consultas de contagem de todas as formas são montadas na carga da classe;
+ * as consultas de seleção variam também com os campos projetados e a ordenação, e são montadas na primeira
+ * ocorrência de cada combinação.
+ */
+public final class ProdutoConsultas {
+    /**
+     * Propriedades aceitas na ordenação. Qualquer outra é rejeitada antes de chegar ao texto da consulta.
+     */
+    public static final Set<String> ORDENAVEIS = Set.of("id", "nome", "descricao", "preco", "versao");
+
+    /**
+     * Limite de combinações de seleção mantidas em memória; além dele a consulta é montada a cada chamada.
+     * A ordenação vem do cliente, então o número de combinações não é limitado apenas pelo código.
+     */
+    private static final int MAX_SELECOES = 1024;
+
+    private static final String[] CAMPOS = {"nome", "descricao", "preco"};
+    private static final String[] TIPOS = {"String", "String", "BigDecimal"};
+    private static final String[] CLAUSULAS = new String[ProdutoFiltro.FORMAS];
+    private static final String[] CONTAGENS = new String[ProdutoFiltro.FORMAS];
+    private static final Map<Selecao, String> SELECOES = new ConcurrentHashMap<>();
+
+    static {
+        for (int forma = 0; forma < ProdutoFiltro.FORMAS; forma++) {
+            CLAUSULAS[forma] = clausula(forma);
+            CONTAGENS[forma] = "select count(p) from Produto p" + CLAUSULAS[forma];
+        }
+    }
+
+    private ProdutoConsultas() {
+    }
+
+    /**
+     * Consulta de seleção projetada em {@link ProdutoResponse}. Campos fora de {@code campos} são selecionados
+     * como {@code NULL}; {@code id} e {@code versao} são sempre selecionados.
+     *
+     * @param forma Forma do filtro ({@link ProdutoFiltro#forma()}).
+     * @param campos Campos de {@link ProdutoResponse} a selecionar; vazio seleciona todos.
+     * @param sort Ordenação, restrita a {@link #ORDENAVEIS}.
+     * @return Texto JPQL, idêntico para chamadas com os mesmos argumentos.
+     * @throws IllegalArgumentException se a ordenação usar propriedade fora de {@link #ORDENAVEIS}.
+     */
+    public static String selecao(int forma, Set<String> campos, Sort sort) {
+        Selecao selecao = new Selecao(forma, mascara(campos), sort);
+        String jpql = SELECOES.get(selecao);
+        if (jpql != null) {
+            return jpql;
+        }
+        return SELECOES.size() < MAX_SELECOES
+                ? SELECOES.computeIfAbsent(selecao, ProdutoConsultas::montar)
+                : montar(selecao);
+    }
+
+    /**
+     * Consulta de contagem ({@code count(*)}) da forma de filtro.
+     */
+    public static String contagem(int forma) {
+        return CONTAGENS[forma];
+    }
+
+    private record Selecao(int forma, int campos, Sort sort) { }
+
+    private static int mascara(Set<String> campos) {
+        int mascara = 0;
+        for (int i = 0; i < CAMPOS.length; i++) {
+            if (campos.isEmpty() || campos.contains(CAMPOS[i])) {
+                mascara |= 1 << i;
+            }
+        }
+        return mascara;
+    }
+
+    private static String montar(Selecao selecao) {
+        StringJoiner colunas = new StringJoiner(", ",
+                "select new " + ProdutoResponse.class.getName() + "(p.id, ", ", p.versao) from Produto p");
+        for (int i = 0; i < CAMPOS.length; i++) {
+            colunas.add((selecao.campos() & 1 << i) != 0 ? "p." + CAMPOS[i] : "cast(null as " + TIPOS[i] + ")");
+        }
+        return colunas + CLAUSULAS[selecao.forma()] + ordenacao(selecao.sort());
+    }
+
+    private static String clausula(int forma) {
+        StringJoiner where = new StringJoiner(" and ", " where ", "").setEmptyValue("");
+        if ((forma & ProdutoFiltro.NOME) != 0) where.add("lower(p.nome) like :nome");
+        if ((forma & ProdutoFiltro.DESCRICAO) != 0) where.add("lower(p.descricao) like :descricao");
+        if ((forma & ProdutoFiltro.MIN_PRECO) != 0) where.add("p.preco >= :minPreco");
+        if ((forma & ProdutoFiltro.MAX_PRECO) != 0) where.add("p.preco <= :maxPreco");
+        if ((forma & ProdutoFiltro.CANDIDATOS) != 0) where.add("p.id in :candidatos");
+        return where.toString();
+    }
+
+    private static String ordenacao(Sort sort) {
+        StringJoiner ordem = new StringJoiner(", ", " order by ", "").setEmptyValue("");
+        for (Sort.Order order : sort) {
+            if (!ORDENAVEIS.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Ordenação não suportada: " + order.getProperty());
+            }
+            String propriedade = "p." + order.getProperty();
+            ordem.add((order.isIgnoreCase() ? "lower(" + propriedade + ")" : propriedade)
+                    + (order.isAscending() ? " asc" : " desc"));
+        }
+        return ordem.toString();
+    }
+}
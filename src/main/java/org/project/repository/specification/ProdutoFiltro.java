@@ -0,0 +1,90 @@
+package org.project.repository.specification;
+
+import jakarta.persistence.Query;
+import org.project.domain.request.ProdutoBuscarRequest;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * Valores de um filtro de busca de produtos, separados da forma da consulta.
+ * A {@link #forma()} (quais filtros estão presentes) escolhe a consulta pré-compilada em {@link ProdutoConsultas};
+ * os valores são sempre vinculados como parâmetros ({@link #vincular(Query)}), nunca concatenados ao texto.
+ *
+ * @param nome Trecho do nome, já normalizado, ou nulo.
+ * @param descricao Trecho da descrição, já normalizado, ou nulo.
+ * @param minPreco Preço mínimo, ou nulo.
+ * @param maxPreco Preço máximo, ou nulo.
+ * @param candidatos IDs resolvidos pelo índice de texto (substituem nome e descrição), ou nulo.
+ */
+public record ProdutoFiltro(
+        String nome,
+        String descricao,
+        BigDecimal minPreco,
+        BigDecimal maxPreco,
+        Set<Integer> candidatos
+) {
+    public static final int NOME = 1;
+    public static final int DESCRICAO = 1 << 1;
+    public static final int MIN_PRECO = 1 << 2;
+    public static final int MAX_PRECO = 1 << 3;
+    public static final int CANDIDATOS = 1 << 4;
+
+    /**
+     * Quantidade de formas possíveis (combinações dos bits acima).
+     */
+    public static final int FORMAS = 1 << 5;
+
+    /**
+     * Filtro a partir dos critérios da requisição, avaliando nome e descrição com {@code LIKE}.
+     */
+    public static ProdutoFiltro de(ProdutoBuscarRequest request) {
+        if (request == null) {
+            return new ProdutoFiltro(null, null, null, null, null);
+        }
+        return new ProdutoFiltro(ProdutoBuscarRequest.normalizarTexto(request.nome()),
+                ProdutoBuscarRequest.normalizarTexto(request.descricao()),
+                request.minPreco(), request.maxPreco(), null);
+    }
+
+    /**
+     * Filtro em que nome e descrição já foram resolvidos pelo índice de texto: apenas a faixa de preço
+     * é avaliada pelo banco, junto de {@code id IN (candidatos)}.
+     */
+    public static ProdutoFiltro de(ProdutoBuscarRequest request, Set<Integer> candidatos) {
+        return new ProdutoFiltro(null, null,
+                request == null ? null : request.minPreco(), request == null ? null : request.maxPreco(), candidatos);
+    }
+
+    /**
+     * Máscara de bits com os filtros presentes.
+     */
+    public int forma() {
+        int forma = 0;
+        if (nome != null) forma |= NOME;
+        if (descricao != null) forma |= DESCRICAO;
+        if (minPreco != null) forma |= MIN_PRECO;
+        if (maxPreco != null) forma |= MAX_PRECO;
+        if (candidatos != null) forma |= CANDIDATOS;
+        return forma;
+    }
+
+    /**
+     * Indica que o índice de texto não encontrou candidatos, ou seja, o resultado é vazio sem consultar o banco.
+     */
+    public boolean semResultados() {
+        return candidatos != null && candidatos.isEmpty();
+    }
+
+    /**
+     * Vincula os valores presentes aos parâmetros nomeados da consulta da mesma {@link #forma()}.
+     */
+    public <Q extends Query> Q vincular(Q query) {
+        if (nome != null) query.setParameter("nome", "%" + nome + "%");
+        if (descricao != null) query.setParameter("descricao", "%" + descricao + "%");
+        if (minPreco != null) query.setParameter("minPreco", minPreco);
+        if (maxPreco != null) query.setParameter("maxPreco", maxPreco);
+        if (candidatos != null) query.setParameter("candidatos", candidatos);
+        return query;
+    }
+}
@@ -1,13 +1,35 @@
 package org.project.repository.specification;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import org.project.domain.entity.Produto;
 import org.project.domain.request.ProdutoBuscarRequest;
+import org.project.domain.request.ProdutoCursor;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public class ProdutoSpecification {
+    /**
+     * Coluna do banco avaliada por cada predicado desta classe que um índice B-tree consegue atender. Cada uma deve
+     * ser a primeira coluna de algum índice de {@code produto}, o que é conferido na inicialização por
+     * {@code VerificadorIndicesProduto}.
+     * <p>
+     * {@code nomeContains} e {@code descricaoContains} ficam de fora: um {@code LIKE '%termo%'} não usa B-tree.
+     * Essas buscas são resolvidas pelo índice de trigramas em memória ({@code ProdutoIndiceTexto}), que as troca
+     * por {@code idIn}; o {@code LIKE} só é executado como alternativa, percorrendo a tabela.
+     */
+    public static final Map<String, String> COLUNAS_POR_PREDICADO = Map.of(
+            "idIn", "id",
+            "precoBetween", "preco",
+            "after(nome)", "nome",
+            "after(preco)", "preco"
+    );
+
     public static Specification<Produto> bySearchCriteria(ProdutoBuscarRequest request) {
         Specification<Produto> spec = Specification.where(null);
         spec = spec.and(Optional.ofNullable(request)
@@ -28,14 +50,66 @@ public class ProdutoSpecification {
         return spec;
     }
 
+    /**
+     * Variante de {@link #bySearchCriteria(ProdutoBuscarRequest)} em que os filtros de nome e descrição
+     * já foram resolvidos pelo índice de texto: os {@code LIKE} são substituídos por {@code id IN (candidatos)}
+     * e apenas a faixa de preço é avaliada pelo banco.
+     */
+    public static Specification<Produto> bySearchCriteria(ProdutoBuscarRequest request, Set<Integer> candidatos) {
+        Specification<Produto> spec = Specification.where(idIn(candidatos));
+        spec = spec.and(Optional.ofNullable(request)
+                .filter(req -> req.minPreco() != null || req.maxPreco() != null)
+                .map(req -> precoBetween(req.minPreco(), req.maxPreco()))
+                .orElse(null));
+
+        return spec;
+    }
+
+    /**
+     * Predicado de busca por cursor (keyset): {@code (chave, id) > (valor, id)} na direção da ordenação,
+     * expandido como {@code chave > valor OR (chave = valor AND id > id)}.
+     * Combinado com {@link #bySearchCriteria(ProdutoBuscarRequest)}, substitui o {@code OFFSET}.
+     */
+    public static Specification<Produto> after(ProdutoCursor cursor) {
+        return (root, _, builder) -> {
+            boolean asc = cursor.direcao().isAscending();
+            Path<Integer> id = root.get("id");
+            return switch (cursor.ordenacao()) {
+                case "id" -> seek(builder, asc, id, cursor.id());
+                case "nome" -> seek(builder, asc, root.get("nome"), cursor.valor(), id, cursor.id());
+                case "preco" -> seek(builder, asc, root.get("preco"), new BigDecimal(cursor.valor()), id, cursor.id());
+                default -> throw new IllegalArgumentException("Ordenação não suportada: " + cursor.ordenacao());
+            };
+        };
+    }
+
+    private static <T extends Comparable<? super T>> Predicate seek(
+            CriteriaBuilder builder, boolean asc, Path<T> chave, T valor
+    ) {
+        return asc ? builder.greaterThan(chave, valor) : builder.lessThan(chave, valor);
+    }
+
+    private static <T extends Comparable<? super T>> Predicate seek(
+            CriteriaBuilder builder, boolean asc, Path<T> chave, T valor, Path<Integer> id, Integer ultimoId
+    ) {
+        return builder.or(
+                seek(builder, asc, chave, valor),
+                builder.and(builder.equal(chave, valor), seek(builder, asc, id, ultimoId))
+        );
+    }
+
+    private static Specification<Produto> idIn(Set<Integer> ids) {
+        return (root, _, builder) -> ids.isEmpty() ? builder.disjunction() : root.get("id").in(ids);
+    }
+
     private static Specification<Produto> nomeContains(String nome) {
         return (root, _, builder) ->
-                builder.like(builder.lower(root.get("nome")), "%" + nome.toLowerCase() + "%");
+                builder.like(builder.lower(root.get("nome")), "%" + ProdutoBuscarRequest.normalizarTexto(nome) + "%");
     }
 
     private static Specification<Produto> descricaoContains(String descricao) {
         return (root, _, builder) ->
-                builder.like(builder.lower(root.get("descricao")), "%" + descricao.toLowerCase() + "%");
+                builder.like(builder.lower(root.get("descricao")), "%" + ProdutoBuscarRequest.normalizarTexto(descricao) + "%");
     }
 
     private static Specification<Produto> precoBetween(BigDecimal minPreco, BigDecimal maxPreco) {
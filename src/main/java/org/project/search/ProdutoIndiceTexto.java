@@ -0,0 +1,231 @@
+package org.project.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.configuration.properties.ProdutoProperties;
+import org.project.repository.ProdutoRepository;
+import org.project.repository.projection.ProdutoTexto;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Índice invertido de trigramas, em memória, sobre {@code nome} e {@code descricao} dos produtos.
+ * <p>
+ * Substitui o {@code lower(col) like '%termo%'} (que não usa índice e varre a tabela inteira)
+ * por uma interseção de listas de IDs por trigrama, seguida da confirmação da substring no texto indexado.
+ * O resultado são IDs candidatos que a consulta combina com os demais predicados (faixa de preço).
+ * <p>
+ * O índice é reconstruído na inicialização e atualizado após o commit de cada escrita em
+ * {@link org.project.service.ProdutoService}. Enquanto não estiver pronto, ou quando o termo for curto
+ * demais (menos de {@value #TAMANHO_GRAMA} caracteres) ou gerar candidatos demais, a busca volta ao {@code LIKE}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProdutoIndiceTexto {
+    private static final int TAMANHO_GRAMA = 3;
+
+    private final ProdutoRepository repository;
+    private final ProdutoProperties properties;
+
+    private final Map<Integer, Documento> documentos = new ConcurrentHashMap<>();
+    private final Map<String, Set<Integer>> gramasNome = new ConcurrentHashMap<>();
+    private final Map<String, Set<Integer>> gramasDescricao = new ConcurrentHashMap<>();
+    private volatile boolean pronto;
+
+    private record Documento(String nome, String descricao, long versao) { }
+
+    /**
+     * Reconstrói o índice a partir do banco de dados, lendo apenas os campos textuais como DTOs.
+     */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        if (!properties.busca().indiceHabilitado()) {
+            log.info("Índice de texto de produtos desabilitado. Buscas textuais usarão LIKE.");
+            return;
+        }
+
+        pronto = false;
+        documentos.clear();
+        gramasNome.clear();
+        gramasDescricao.clear();
+
+        long inicio = System.nanoTime();
+        try (Stream<ProdutoTexto> textos = repository.streamTextos()) {
+            textos.forEach(texto -> indexar(texto.id(), texto.nome(), texto.descricao(), texto.versao()));
+        }
+        pronto = true;
+
+        log.info("Índice de texto de produtos construído. Documentos: {}, trigramas: {}, tempo: {} ms",
+                documentos.size(), gramasNome.size() + gramasDescricao.size(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    /**
+     * Retorna os IDs dos produtos cujo nome e descrição contêm os termos informados (case-insensitive).
+     *
+     * @param nome      Termo buscado no nome, ou nulo/vazio para não filtrar por nome.
+     * @param descricao Termo buscado na descrição, ou nulo/vazio para não filtrar por descrição.
+     * @return IDs candidatos (possivelmente vazio), ou {@link Optional#empty()} quando o índice não pode
+     * responder e a busca deve usar {@code LIKE}.
+     */
+    public Optional<Set<Integer>> candidatos(final String nome, final String descricao) {
+        String termoNome = normalizar(nome);
+        String termoDescricao = normalizar(descricao);
+        if (!pronto || (termoNome == null && termoDescricao == null)) {
+            return Optional.empty();
+        }
+        if ((termoNome != null && termoNome.length() < TAMANHO_GRAMA)
+                || (termoDescricao != null && termoDescricao.length() < TAMANHO_GRAMA)) {
+            return Optional.empty();
+        }
+
+        Set<Integer> resultado = null;
+        if (termoNome != null) {
+            resultado = buscar(gramasNome, termoNome, Documento::nome);
+        }
+        if (termoDescricao != null) {
+            Set<Integer> porDescricao = buscar(gramasDescricao, termoDescricao, Documento::descricao);
+            if (resultado == null) {
+                resultado = porDescricao;
+            } else {
+                resultado.retainAll(porDescricao);
+            }
+        }
+
+        if (resultado.size() > properties.busca().maxCandidatos()) {
+            log.debug("Índice de texto retornou {} candidatos (limite {}). Usando LIKE.",
+                    resultado.size(), properties.busca().maxCandidatos());
+            return Optional.empty();
+        }
+        return Optional.of(resultado);
+    }
+
+    /**
+     * Indexa (ou reindexa) o produto após o commit da transação corrente, ou imediatamente se não houver transação.
+     * Como as ações pós-commit de transações concorrentes podem executar fora de ordem, uma versão
+     * mais antiga que a já indexada é ignorada.
+     */
+    public void indexarAposCommit(final Integer id, final String nome, final String descricao, final long versao) {
+        aposCommit(() -> indexar(id, nome, descricao, versao));
+    }
+
+    /**
+     * Remove o produto do índice após o commit da transação corrente, ou imediatamente se não houver transação.
+     */
+    public void removerAposCommit(final Collection<Integer> ids) {
+        aposCommit(() -> ids.forEach(this::remover));
+    }
+
+    /**
+     * Troca o documento e os trigramas do produto dentro de {@code compute} sobre o ID, de modo que
+     * escritas do mesmo produto sejam serializadas e nunca deixem trigramas de um texto com o documento de outro.
+     */
+    private void indexar(final Integer id, final String nome, final String descricao, final long versao) {
+        documentos.compute(id, (_, anterior) -> {
+            if (anterior != null && anterior.versao() > versao) {
+                return anterior;
+            }
+            Documento documento = new Documento(normalizarTexto(nome), normalizarTexto(descricao), versao);
+            if (anterior != null) {
+                retirarGramas(id, anterior);
+            }
+            gramas(documento.nome()).forEach(grama -> adicionar(gramasNome, grama, id));
+            gramas(documento.descricao()).forEach(grama -> adicionar(gramasDescricao, grama, id));
+            return documento;
+        });
+    }
+
+    private void remover(final Integer id) {
+        documentos.computeIfPresent(id, (_, anterior) -> {
+            retirarGramas(id, anterior);
+            return null;
+        });
+    }
+
+    private void retirarGramas(final Integer id, final Documento documento) {
+        gramas(documento.nome()).forEach(grama -> retirar(gramasNome, grama, id));
+        gramas(documento.descricao()).forEach(grama -> retirar(gramasDescricao, grama, id));
+    }
+
+    private Set<Integer> buscar(
+            final Map<String, Set<Integer>> indice, final String termo, final Function<Documento, String> campo
+    ) {
+        List<Set<Integer>> listas = gramas(termo)
+                .map(grama -> indice.getOrDefault(grama, Set.of()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .toList();
+
+        Set<Integer> resultado = new HashSet<>(listas.getFirst());
+        for (int i = 1; i < listas.size() && !resultado.isEmpty(); i++) {
+            resultado.retainAll(listas.get(i));
+        }
+
+        resultado.removeIf(id -> {
+            Documento documento = documentos.get(id);
+            return documento == null || !campo.apply(documento).contains(termo);
+        });
+        return resultado;
+    }
+
+    private static void adicionar(final Map<String, Set<Integer>> indice, final String grama, final Integer id) {
+        indice.compute(grama, (_, ids) -> {
+            Set<Integer> lista = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+            lista.add(id);
+            return lista;
+        });
+    }
+
+    private static void retirar(final Map<String, Set<Integer>> indice, final String grama, final Integer id) {
+        indice.computeIfPresent(grama, (_, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static Stream<String> gramas(final String texto) {
+        if (texto.length() < TAMANHO_GRAMA) {
+            return Stream.empty();
+        }
+        return Stream.iterate(0, i -> i <= texto.length() - TAMANHO_GRAMA, i -> i + 1)
+                .map(i -> texto.substring(i, i + TAMANHO_GRAMA))
+                .distinct();
+    }
+
+    private static String normalizar(final String termo) {
+        return termo == null || termo.isBlank() ? null : termo.toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalizarTexto(final String texto) {
+        return texto == null ? "" : texto.toLowerCase(Locale.ROOT);
+    }
+
+    private static void aposCommit(final Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
+    }
+}
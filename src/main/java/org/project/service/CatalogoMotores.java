@@ -0,0 +1,136 @@
+package org.project.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.project.configuration.properties.TesteFabricaProperties;
+import org.project.domain.object.Motor;
+import org.project.domain.object.RegistroCarros;
+import org.project.domain.object.TabelaIgnicao;
+import org.project.handler.exception.UnprocessableEntityException;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.awt.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Catálogo de motores dos testes de fábrica, lido de {@code testes-fabrica.catalogo-motores} (JSON).
+ * <p>
+ * Os motores são identificados pelo nome do catálogo, sem diferenciar maiúsculas e minúsculas; o {@code tipo}
+ * de cada um é apenas a categoria considerada pelas regras de ignição. Assim, um motor novo entra no catálogo
+ * editando o arquivo, sem alterar código.
+ * <p>
+ * Motores e o {@link RegistroCarros} montado com eles formam um único estado imutável, trocado atomicamente
+ * por {@link #recarregar()} sem reiniciar o contexto. Cada consulta lê o estado atual uma única vez, então uma
+ * operação em andamento continua usando os motores da versão que encontrou. Se o arquivo for inválido, o estado
+ * anterior é mantido.
+ */
+@Slf4j
+@Component
+public class CatalogoMotores {
+    /**
+     * Tamanho máximo do nome, limitado pela coluna {@code resultado_teste_fabrica.motor}.
+     */
+    private static final int TAMANHO_MAXIMO_NOME = 20;
+
+    private final TesteFabricaProperties properties;
+    private final TabelaIgnicao tabelaIgnicao;
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<Estado> estado = new AtomicReference<>();
+
+    /**
+     * Versão do catálogo: motores por nome e os carros montados com eles.
+     */
+    public record Estado(Map<String, Motor> motores, RegistroCarros registro) { }
+
+    public CatalogoMotores(TesteFabricaProperties properties, TabelaIgnicao tabelaIgnicao, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.tabelaIgnicao = tabelaIgnicao;
+        this.objectMapper = objectMapper;
+        recarregar();
+    }
+
+    /**
+     * Relê o arquivo do catálogo e substitui atomicamente os motores e o registro de carros.
+     *
+     * @return Os motores carregados.
+     * @throws UnprocessableEntityException se o conteúdo do arquivo for inválido (o catálogo atual é mantido).
+     * @throws IllegalStateException se o arquivo não puder ser lido (o catálogo atual é mantido).
+     */
+    public synchronized Collection<Motor> recarregar() {
+        Resource arquivo = properties.catalogoMotores();
+        Map<String, Motor> motores = ler(arquivo);
+
+        List<RegistroCarros.Modelo> modelos = properties.modelos().entrySet().stream()
+                .map(entrada -> new RegistroCarros.Modelo(
+                        entrada.getKey(), entrada.getValue().montadora(), Color.decode(entrada.getValue().cor())))
+                .toList();
+        estado.set(new Estado(motores, new RegistroCarros(modelos, motores.values(), tabelaIgnicao)));
+
+        log.info("Catálogo de motores carregado de {}. Motores: {}", arquivo.getDescription(), motores.keySet());
+        return motores.values();
+    }
+
+    /**
+     * @return O estado atual do catálogo.
+     */
+    public Estado atual() {
+        return estado.get();
+    }
+
+    /**
+     * Normaliza o nome de um motor para a forma usada como chave do catálogo (ex: {@code turbo} → {@code TURBO}).
+     *
+     * @return O nome normalizado, ou nulo se o nome for nulo.
+     */
+    public static String nome(String nome) {
+        return nome == null ? null : nome.strip().toUpperCase(Locale.ROOT);
+    }
+
+    private Map<String, Motor> ler(Resource arquivo) {
+        Motor[] lidos;
+        try (InputStream in = arquivo.getInputStream()) {
+            lidos = objectMapper.readValue(in, Motor[].class);
+        } catch (JsonProcessingException ex) {
+            throw invalido(arquivo, "JSON malformado (" + ex.getOriginalMessage() + ")", ex);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Falha ao ler o catálogo de motores " + arquivo.getDescription(), ex);
+        }
+        if (lidos == null || lidos.length == 0) {
+            throw invalido(arquivo, "nenhum motor informado", null);
+        }
+
+        Map<String, Motor> motores = new LinkedHashMap<>();
+        for (Motor lido : lidos) {
+            if (lido == null || lido.nome() == null || lido.nome().isBlank()) {
+                throw invalido(arquivo, "motor sem nome", null);
+            }
+            String nome = nome(lido.nome());
+            if (nome.length() > TAMANHO_MAXIMO_NOME) {
+                throw invalido(arquivo, "nome de motor com mais de " + TAMANHO_MAXIMO_NOME + " caracteres: " + nome, null);
+            }
+            if (lido.tipo() == null) {
+                throw invalido(arquivo, "motor sem tipo: " + nome, null);
+            }
+            Motor motor = new Motor(nome, lido.modelo(), lido.cavalos(), lido.cilindros(), lido.litragem(), lido.tipo());
+            if (motores.putIfAbsent(nome, motor) != null) {
+                throw invalido(arquivo, "nome de motor repetido: " + nome, null);
+            }
+        }
+        return Collections.unmodifiableMap(motores);
+    }
+
+    private static UnprocessableEntityException invalido(Resource arquivo, String motivo, Throwable causa) {
+        return new UnprocessableEntityException(
+                "Catálogo de motores inválido em " + arquivo.getDescription() + ": " + motivo, causa);
+    }
+}
@@ -0,0 +1,99 @@
+package org.project.service;
+
+import org.project.configuration.properties.ProdutoProperties;
+import org.project.metrics.MetricasServico;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalescência de chamadas idênticas simultâneas (single-flight).
+ * <p>
+ * A primeira chamada para uma chave executa a carga e publica o resultado em um {@link CompletableFuture};
+ * as chamadas que chegam com a mesma chave enquanto ela está em andamento aguardam esse resultado
+ * (ou a mesma exceção) em vez de repetir a consulta. Ao terminar, a chave é removida: não há retenção
+ * de resultados, então o comportamento não depende do TTL de nenhum cache.
+ * <p>
+ * As chamadas em andamento ficam em {@code produto.coalescencia.faixas} mapas, escolhidos pelo hash da chave,
+ * para reduzir a disputa entre chaves diferentes em rajadas de leituras.
+ */
+@Component
+public class CoalescedorChamadas {
+    private final Map<Chave, CompletableFuture<Object>>[] faixas;
+    private final boolean habilitada;
+    private final MetricasServico metricas;
+
+    private record Chave(String servico, String operacao, Object argumentos) { }
+
+    @SuppressWarnings("unchecked")
+    public CoalescedorChamadas(ProdutoProperties properties, MetricasServico metricas) {
+        int solicitadas = Math.max(1, properties.coalescencia().faixas());
+        int quantidade = Integer.highestOneBit(solicitadas) < solicitadas
+                ? Integer.highestOneBit(solicitadas) << 1
+                : solicitadas;
+        this.faixas = new Map[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            faixas[i] = new ConcurrentHashMap<>();
+        }
+        this.habilitada = properties.coalescencia().habilitada();
+        this.metricas = metricas;
+    }
+
+    /**
+     * Executa a carga, ou aguarda uma carga idêntica já em andamento.
+     *
+     * @param servico Serviço da operação (tag das métricas).
+     * @param operacao Operação (tag das métricas e parte da chave).
+     * @param argumentos Argumentos normalizados que identificam a chamada ({@code equals}/{@code hashCode}).
+     * @param carga Consulta a executar. O resultado é compartilhado entre as chamadas e não deve ser alterado.
+     * @return O resultado da carga.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T executar(final String servico, final String operacao, final Object argumentos, final Supplier<T> carga) {
+        if (!habilitada) {
+            return carga.get();
+        }
+
+        Chave chave = new Chave(servico, operacao, argumentos);
+        Map<Chave, CompletableFuture<Object>> faixa = faixas[espalhar(chave.hashCode()) & (faixas.length - 1)];
+        CompletableFuture<Object> emAndamento = new CompletableFuture<>();
+        CompletableFuture<Object> existente = faixa.putIfAbsent(chave, emAndamento);
+        if (existente != null) {
+            metricas.registrarCoalescencia(servico, operacao);
+            return (T) aguardar(existente);
+        }
+
+        try {
+            T resultado = carga.get();
+            emAndamento.complete(resultado);
+            return resultado;
+        } catch (RuntimeException | Error ex) {
+            emAndamento.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            faixa.remove(chave, emAndamento);
+        }
+    }
+
+    private static Object aguardar(final CompletableFuture<Object> futuro) {
+        try {
+            return futuro.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (ex.getCause() instanceof Error erro) {
+                throw erro;
+            }
+            throw ex;
+        }
+    }
+
+    private static int espalhar(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
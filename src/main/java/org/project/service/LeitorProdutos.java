@@ -0,0 +1,135 @@
+package org.project.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.project.domain.enums.FormatoArquivo;
+import org.project.domain.request.ProdutoSalvarRequest;
+import org.project.service.ProdutoLoteService.ItemInvalidoException;
+import org.project.util.LeitorCsv;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Lê requisições de criação de produto de um arquivo NDJSON ou CSV, um registro por vez.
+ * Registros malformados são sinalizados com {@link ItemInvalidoException} sem interromper a leitura.
+ * <p>
+ * No CSV, a primeira linha é o cabeçalho e deve conter as colunas {@code nome}, {@code descricao} e {@code preco}
+ * (em qualquer ordem; colunas adicionais, como {@code id}, são ignoradas).
+ */
+final class LeitorProdutos implements Iterator<ProdutoSalvarRequest>, Closeable {
+    private final BufferedReader reader;
+    private final Iterator<ProdutoSalvarRequest> registros;
+
+    LeitorProdutos(final BufferedReader reader, final FormatoArquivo formato, final ObjectReader json) {
+        this.reader = reader;
+        this.registros = switch (formato) {
+            case NDJSON -> ndjson(reader, json);
+            case CSV -> csv(new LeitorCsv(reader));
+        };
+    }
+
+    @Override
+    public boolean hasNext() {
+        return registros.hasNext();
+    }
+
+    @Override
+    public ProdutoSalvarRequest next() {
+        return registros.next();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static Iterator<ProdutoSalvarRequest> ndjson(final BufferedReader reader, final ObjectReader json) {
+        return new Iterator<>() {
+            private String linha;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    while (linha == null) {
+                        String lida = reader.readLine();
+                        if (lida == null) {
+                            return false;
+                        }
+                        if (!lida.isBlank()) {
+                            linha = lida;
+                        }
+                    }
+                    return true;
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+
+            @Override
+            public ProdutoSalvarRequest next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                String atual = linha;
+                linha = null;
+                try {
+                    return json.readValue(atual);
+                } catch (JsonProcessingException ex) {
+                    throw new ItemInvalidoException("JSON inválido: " + ex.getOriginalMessage(), ex);
+                }
+            }
+        };
+    }
+
+    private static Iterator<ProdutoSalvarRequest> csv(final LeitorCsv leitor) {
+        if (!leitor.hasNext()) {
+            return List.<ProdutoSalvarRequest>of().iterator();
+        }
+        List<String> cabecalho = leitor.next().stream().map(coluna -> coluna.trim().toLowerCase(Locale.ROOT)).toList();
+        int nome = coluna(cabecalho, "nome");
+        int descricao = coluna(cabecalho, "descricao");
+        int preco = coluna(cabecalho, "preco");
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return leitor.hasNext();
+            }
+
+            @Override
+            public ProdutoSalvarRequest next() {
+                List<String> campos = leitor.next();
+                if (campos.size() < cabecalho.size()) {
+                    throw new ItemInvalidoException(
+                            "Registro com " + campos.size() + " colunas; esperado " + cabecalho.size() + ".", null);
+                }
+                try {
+                    String valorPreco = campos.get(preco).trim();
+                    return new ProdutoSalvarRequest(
+                            campos.get(nome),
+                            campos.get(descricao),
+                            valorPreco.isEmpty() ? null : new BigDecimal(valorPreco)
+                    );
+                } catch (NumberFormatException ex) {
+                    throw new ItemInvalidoException("preco: valor numérico inválido '" + campos.get(preco) + "'.", ex);
+                }
+            }
+        };
+    }
+
+    private static int coluna(final List<String> cabecalho, final String nome) {
+        int indice = cabecalho.indexOf(nome);
+        if (indice < 0) {
+            throw new IllegalArgumentException("Cabeçalho CSV sem a coluna obrigatória '" + nome + "': " + cabecalho);
+        }
+        return indice;
+    }
+}
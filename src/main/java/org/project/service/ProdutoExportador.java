@@ -0,0 +1,131 @@
+package org.project.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.domain.enums.FormatoArquivo;
+import org.project.domain.request.ProdutoBuscarRequest;
+import org.project.domain.response.ProdutoResponse;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Escreve o catálogo de produtos diretamente no fluxo de saída da resposta HTTP, registro a registro,
+ * em NDJSON (um objeto JSON por linha) ou CSV. Nenhuma lista intermediária é construída: os registros
+ * vêm do cursor de {@link ProdutoService#exportar(ProdutoBuscarRequest, Sort, Consumer)}.
+ */
+@Slf4j
+@AllArgsConstructor
+@Component
+public class ProdutoExportador {
+    private static final int LINHAS_POR_FLUSH = 1000;
+    private static final String CABECALHO_CSV = "id,nome,descricao,preco";
+
+    private final ProdutoService service;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Exporta os produtos que atendem aos critérios no formato solicitado.
+     * O fluxo de saída não é fechado, apenas descarregado ({@code flush}).
+     *
+     * @param request Critérios de busca. Pode ser nulo.
+     * @param sort Ordenação dos registros.
+     * @param formato Formato de saída.
+     * @param out Fluxo de saída da resposta.
+     * @throws IOException se a escrita no fluxo de saída falhar (ex: cliente desconectado).
+     */
+    public void exportar(
+            final ProdutoBuscarRequest request, final Sort sort, final FormatoArquivo formato, final OutputStream out
+    ) throws IOException {
+        log.debug("Exportação de produtos iniciada. Formato: {}, critérios: {}", formato, request);
+        try {
+            long total = switch (formato) {
+                case NDJSON -> exportarNdjson(request, sort, out);
+                case CSV -> exportarCsv(request, sort, out);
+            };
+            log.debug("Exportação de produtos finalizada. Registros: {}", total);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private long exportarNdjson(final ProdutoBuscarRequest request, final Sort sort, final OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(ProdutoResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            long total = service.exportar(request, sort, linhas(generator, produto -> {
+                writer.writeValue(generator, produto);
+                generator.writeRaw('\n');
+            }));
+            generator.flush();
+            return total;
+        }
+    }
+
+    private long exportarCsv(final ProdutoBuscarRequest request, final Sort sort, final OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CABECALHO_CSV);
+        writer.write('\n');
+
+        long total = service.exportar(request, sort, linhas(writer, produto -> {
+            writer.write(produto.id().toString());
+            writer.write(',');
+            writer.write(csv(produto.nome()));
+            writer.write(',');
+            writer.write(csv(produto.descricao()));
+            writer.write(',');
+            writer.write(produto.preco().toPlainString());
+            writer.write('\n');
+        }));
+        writer.flush();
+        return total;
+    }
+
+    @FunctionalInterface
+    private interface Escrita {
+        void escrever(ProdutoResponse produto) throws IOException;
+    }
+
+    /**
+     * Adapta uma escrita que lança {@link IOException} para {@link Consumer}, descarregando a saída a cada
+     * {@value #LINHAS_POR_FLUSH} linhas para que o cliente receba os dados progressivamente.
+     */
+    private static Consumer<ProdutoResponse> linhas(final Flushable saida, final Escrita escrita) {
+        long[] linhas = {0};
+        return produto -> {
+            try {
+                escrita.escrever(produto);
+                if (++linhas[0] % LINHAS_POR_FLUSH == 0) {
+                    saida.flush();
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        };
+    }
+
+    private static String csv(final String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,66 @@
+package org.project.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.configuration.properties.ProdutoProperties;
+import org.project.domain.enums.FormatoArquivo;
+import org.project.domain.object.ImportacaoJob;
+import org.project.domain.request.ProdutoSalvarRequest;
+import org.project.domain.response.ProdutoLoteResponse;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Executa importações de produtos fora da thread da requisição HTTP.
+ * Separado de {@link ProdutoImportacaoService} para que a chamada passe pelo proxy de {@link Async}.
+ */
+@Slf4j
+@AllArgsConstructor
+@Component
+public class ProdutoImportacaoProcessador {
+
+    private final ProdutoLoteService loteService;
+    private final ObjectMapper objectMapper;
+    private final ProdutoProperties properties;
+
+    /**
+     * Lê o arquivo de forma incremental e grava os produtos em blocos via
+     * {@link ProdutoLoteService#criarLote(java.util.Iterator, ProdutoLoteService.Progresso, int)},
+     * atualizando o andamento do job ao final de cada bloco. O arquivo temporário é removido ao final.
+     * <p>
+     * SUMÁRIO: Processa um arquivo de importação de forma assíncrona, atualizando o job.
+     *
+     * @param job Job cujo andamento será atualizado.
+     * @param arquivo Cópia temporária do arquivo enviado.
+     * @param formato Formato do arquivo.
+     */
+    @Async
+    public void processar(final ImportacaoJob job, final Path arquivo, final FormatoArquivo formato) {
+        log.info("Iniciando importação {} do arquivo '{}' ({}).", job.getId(), job.getArquivo(), formato);
+        job.iniciar();
+
+        try (BufferedReader reader = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8);
+             LeitorProdutos leitor = new LeitorProdutos(reader, formato, objectMapper.readerFor(ProdutoSalvarRequest.class))) {
+            ProdutoLoteResponse resultado = loteService.criarLote(leitor, job::atualizar, properties.importacao().maxErros());
+            job.concluir(resultado);
+            log.info("Importação {} concluída. Processados: {}, criados: {}, erros: {}",
+                    job.getId(), resultado.total(), resultado.criados(), job.getQuantidadeErros());
+        } catch (Exception ex) {
+            log.error("Importação {} falhou.", job.getId(), ex);
+            job.falhar(ex.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(arquivo);
+            } catch (IOException ex) {
+                log.warn("Não foi possível remover o arquivo temporário {}.", arquivo, ex);
+            }
+        }
+    }
+}
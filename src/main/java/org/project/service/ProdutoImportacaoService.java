@@ -0,0 +1,111 @@
+package org.project.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.domain.enums.FormatoArquivo;
+import org.project.domain.object.ImportacaoJob;
+import org.project.domain.response.ProdutoImportacaoResponse;
+import org.project.handler.exception.BadRequestException;
+import org.project.handler.exception.ResourceNotFoundException;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ProdutoImportacaoService {
+
+    private final ProdutoImportacaoProcessador processador;
+
+    private final Cache<UUID, ImportacaoJob> jobs = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofHours(24))
+            .maximumSize(1_000)
+            .build();
+
+    /**
+     * Inicia a importação de um arquivo de produtos (NDJSON ou CSV).
+     * O conteúdo enviado é copiado para um arquivo temporário em disco (sem ser carregado em memória)
+     * e processado de forma assíncrona; o andamento pode ser consultado pelo ID do job retornado.
+     * Se a cópia falhar ou o executor recusar a tarefa, o arquivo temporário é removido e o job descartado.
+     * <p>
+     * SUMÁRIO: Registra e dispara uma importação assíncrona de produtos, retornando o job.
+     *
+     * @param arquivo Arquivo enviado na requisição multipart.
+     * @param formato Formato do arquivo, ou nulo para inferir pela extensão do nome do arquivo.
+     * @return Situação inicial do job de importação.
+     * @throws BadRequestException se o arquivo estiver vazio ou o formato não puder ser determinado.
+     * @throws IOException se a cópia do arquivo para o disco falhar.
+     * @throws TaskRejectedException se o executor assíncrono não aceitar a importação.
+     */
+    public ProdutoImportacaoResponse iniciar(@NonNull final MultipartFile arquivo, final FormatoArquivo formato) throws IOException {
+        if (arquivo.isEmpty()) {
+            throw new BadRequestException("Arquivo de importação vazio.");
+        }
+        FormatoArquivo formatoArquivo = Optional.ofNullable(formato)
+                .or(() -> formatoPorExtensao(arquivo.getOriginalFilename()))
+                .orElseThrow(() -> new BadRequestException(
+                        "Não foi possível determinar o formato do arquivo '" + arquivo.getOriginalFilename()
+                                + "'. Informe o parâmetro 'formato' (" + Arrays.toString(FormatoArquivo.values()) + ")."));
+
+        Path temporario = Files.createTempFile("produtos-importacao-", "." + formatoArquivo.getExtensao());
+        ImportacaoJob job = new ImportacaoJob(arquivo.getOriginalFilename());
+        try {
+            arquivo.transferTo(temporario);
+            jobs.put(job.getId(), job);
+            log.info("Importação {} registrada para o arquivo '{}' ({} bytes).", job.getId(), job.getArquivo(), arquivo.getSize());
+
+            processador.processar(job, temporario, formatoArquivo);
+        } catch (IOException | RuntimeException ex) {
+            jobs.invalidate(job.getId());
+            removerTemporario(temporario);
+            throw ex;
+        }
+        return ProdutoImportacaoResponse.de(job);
+    }
+
+    /**
+     * Consulta o andamento de uma importação.
+     * <p>
+     * SUMÁRIO: Obtém a situação de um job de importação por ID.
+     *
+     * @param id ID do job de importação.
+     * @return Situação atual do job, com contadores e erros por item.
+     * @throws ResourceNotFoundException se o job não existir ou já tiver expirado.
+     */
+    public ProdutoImportacaoResponse obter(@NonNull final UUID id) {
+        return Optional.ofNullable(jobs.getIfPresent(id))
+                .map(ProdutoImportacaoResponse::de)
+                .orElseThrow(() -> new ResourceNotFoundException("Importação não encontrada com ID: " + id));
+    }
+
+    private static void removerTemporario(final Path temporario) {
+        try {
+            Files.deleteIfExists(temporario);
+        } catch (IOException ex) {
+            log.warn("Não foi possível remover o arquivo temporário {}.", temporario, ex);
+        }
+    }
+
+    private static Optional<FormatoArquivo> formatoPorExtensao(final String nomeArquivo) {
+        if (nomeArquivo == null) {
+            return Optional.empty();
+        }
+        String nome = nomeArquivo.toLowerCase(Locale.ROOT);
+        return Arrays.stream(FormatoArquivo.values())
+                .filter(formato -> nome.endsWith("." + formato.getExtensao()))
+                .findFirst();
+    }
+}
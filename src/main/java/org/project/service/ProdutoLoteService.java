@@ -0,0 +1,254 @@
+package org.project.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.project.configuration.properties.ProdutoProperties;
+import org.project.domain.entity.Produto;
+import org.project.domain.enums.FormatoArquivo;
+import org.project.domain.mapper.ProdutoMapper;
+import org.project.domain.request.ProdutoSalvarRequest;
+import org.project.domain.response.ProdutoLoteResponse;
+import org.project.search.ProdutoIndiceTexto;
+import org.project.util.CacheName;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ProdutoLoteService {
+
+    private final ProdutoMapper mapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final ProdutoIndiceTexto indiceTexto;
+    private final ProdutoProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private record Item(long indice, Produto produto) { }
+
+    /**
+     * Recebe o andamento da criação em lote ao final de cada bloco gravado.
+     */
+    @FunctionalInterface
+    public interface Progresso {
+        Progresso NENHUM = (_, _, _) -> { };
+
+        void atualizar(long processados, long criados, long erros);
+    }
+
+    /**
+     * Sinaliza, a partir do iterador de entrada, que um item não pôde ser lido (ex: linha malformada).
+     * O item é reportado como erro e a leitura continua com o próximo.
+     */
+    public static class ItemInvalidoException extends RuntimeException {
+        public ItemInvalidoException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    /**
+     * Cria produtos em lote a partir de um corpo NDJSON (um objeto JSON por linha), lido linha a linha.
+     * Uma linha malformada é reportada como erro do item correspondente ({@link ItemInvalidoException}),
+     * como as falhas de validação, sem interromper a leitura das linhas seguintes.
+     *
+     * @param ndjson Corpo da requisição. É fechado ao final da leitura.
+     * @return Relatório com o total de itens recebidos, a quantidade criada e os erros por item.
+     * @throws IOException se o corpo não puder ser lido.
+     */
+    public ProdutoLoteResponse criarLote(@NonNull final InputStream ndjson) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+             LeitorProdutos leitor = new LeitorProdutos(
+                     reader, FormatoArquivo.NDJSON, objectMapper.readerFor(ProdutoSalvarRequest.class))) {
+            return criarLote(leitor);
+        }
+    }
+
+    /**
+     * Cria produtos em lote a partir de uma sequência de requisições, consumida de forma incremental.
+     * Equivale a {@link #criarLote(Iterator, Progresso, int)} sem acompanhamento e sem limite de erros reportados.
+     *
+     * @param requests Requisições de criação, consumidas na ordem do iterador.
+     * @return Relatório com o total de itens recebidos, a quantidade criada e os erros por item.
+     */
+    public ProdutoLoteResponse criarLote(@NonNull final Iterator<ProdutoSalvarRequest> requests) {
+        return criarLote(requests, Progresso.NENHUM, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Cria produtos em lote a partir de uma sequência de requisições, consumida de forma incremental.
+     * <p>
+     * Cada item é validado individualmente com as mesmas restrições de {@link ProdutoSalvarRequest} e de
+     * {@link Produto}; itens inválidos (ou ilegíveis, ver {@link ItemInvalidoException}) são reportados e não
+     * interrompem o lote. Os itens válidos são gravados em blocos de {@code produto.lote.tamanho-transacao} itens,
+     * um bloco por transação, com {@code flush}/{@code clear} ao final de cada bloco. Como os IDs vêm de uma
+     * sequência com alocação em blocos, o Hibernate agrupa os {@code INSERT}s em lotes JDBC
+     * ({@code hibernate.jdbc.batch_size}).
+     * Se a gravação de um bloco falhar, todos os itens daquele bloco são reportados como erro e os blocos
+     * já confirmados permanecem gravados.
+     * <p>
+     * SUMÁRIO: Cria produtos em lote, com transações por bloco e relatório de erros por item.
+     *
+     * @param requests  Requisições de criação, consumidas na ordem do iterador.
+     * @param progresso Notificado ao final de cada bloco com os totais parciais.
+     * @param maxErros  Quantidade máxima de erros detalhados no relatório; os demais são apenas contados.
+     * @return Relatório com o total de itens recebidos, a quantidade criada e os erros por item.
+     */
+    public ProdutoLoteResponse criarLote(
+            @NonNull final Iterator<ProdutoSalvarRequest> requests, @NonNull final Progresso progresso, final int maxErros
+    ) {
+        log.info("Iniciando criação de produtos em lote.");
+
+        int tamanhoTransacao = properties.lote().tamanhoTransacao();
+        Erros erros = new Erros(maxErros);
+        List<Item> bloco = new ArrayList<>(tamanhoTransacao);
+        long total = 0;
+        long criados = 0;
+
+        while (requests.hasNext()) {
+            long indice = total++;
+            Optional<Produto> produto;
+            try {
+                produto = validar(indice, requests.next(), erros);
+            } catch (ItemInvalidoException ex) {
+                erros.adicionar(indice, ex.getMessage());
+                continue;
+            }
+            if (produto.isEmpty()) {
+                continue;
+            }
+
+            bloco.add(new Item(indice, produto.get()));
+            if (bloco.size() == tamanhoTransacao) {
+                criados += gravar(bloco, erros);
+                bloco.clear();
+                progresso.atualizar(total, criados, erros.quantidade);
+            }
+        }
+        if (!bloco.isEmpty()) {
+            criados += gravar(bloco, erros);
+        }
+        progresso.atualizar(total, criados, erros.quantidade);
+
+        if (criados > 0) {
+            Optional.ofNullable(cacheManager.getCache(CacheName.PRODUTO_CONTAGEM)).ifPresent(Cache::clear);
+        }
+
+        log.info("Criação de produtos em lote finalizada. Recebidos: {}, criados: {}, erros: {}", total, criados, erros.quantidade);
+        return new ProdutoLoteResponse(total, criados, erros.detalhes);
+    }
+
+    /**
+     * Acumula os erros do lote, guardando no máximo {@code limite} detalhes e contando todos.
+     */
+    private static final class Erros {
+        private final int limite;
+        private final List<ProdutoLoteResponse.Erro> detalhes = new ArrayList<>();
+        private long quantidade;
+
+        private Erros(int limite) {
+            this.limite = limite;
+        }
+
+        private void adicionar(long indice, String mensagem) {
+            quantidade++;
+            if (detalhes.size() < limite) {
+                detalhes.add(new ProdutoLoteResponse.Erro(indice, mensagem));
+            }
+        }
+    }
+
+    /**
+     * Função interna que valida a requisição com as restrições de {@link ProdutoSalvarRequest} e, em seguida,
+     * a entidade mapeada com as restrições de {@link Produto}, registrando as violações encontradas.
+     * <p>
+     * SUMÁRIO: Valida um item do lote e retorna a entidade pronta para gravação, se válida.
+     */
+    private Optional<Produto> validar(final long indice, final ProdutoSalvarRequest request, final Erros erros) {
+        if (request == null) {
+            erros.adicionar(indice, "Item nulo.");
+            return Optional.empty();
+        }
+        Optional<String> violacoes = violacoes(validator.validate(request));
+        if (violacoes.isPresent()) {
+            erros.adicionar(indice, violacoes.get());
+            return Optional.empty();
+        }
+
+        Produto produto = mapper.toEntity(request);
+        violacoes = violacoes(validator.validate(produto));
+        if (violacoes.isPresent()) {
+            erros.adicionar(indice, violacoes.get());
+            return Optional.empty();
+        }
+        return Optional.of(produto);
+    }
+
+    private static <T> Optional<String> violacoes(final Set<ConstraintViolation<T>> violacoes) {
+        if (violacoes.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(violacoes.stream()
+                .map(violacao -> violacao.getPropertyPath() + ": " + violacao.getMessage())
+                .collect(Collectors.joining("; ")));
+    }
+
+    /**
+     * Função interna que grava um bloco de itens válidos em uma única transação,
+     * persistindo as entidades e executando {@code flush}/{@code clear} antes do commit.
+     * Os produtos do bloco não são colocados no cache de segundo nível ({@link CacheMode#IGNORE}),
+     * para que uma importação grande não desaloje as entradas lidas com frequência.
+     * <p>
+     * SUMÁRIO: Grava um bloco do lote; em caso de falha, reporta todos os itens do bloco.
+     *
+     * @return Quantidade de produtos gravados (zero em caso de falha do bloco).
+     */
+    private int gravar(final List<Item> bloco, final Erros erros) {
+        try {
+            transactionTemplate.executeWithoutResult(_ -> {
+                entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+                for (Item item : bloco) {
+                    Produto produto = item.produto();
+                    entityManager.persist(produto);
+                    indiceTexto.indexarAposCommit(produto.getId(), produto.getNome(), produto.getDescricao(), produto.getVersao());
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+            log.debug("Bloco de {} produtos gravado (itens {} a {}).",
+                    bloco.size(), bloco.getFirst().indice(), bloco.getLast().indice());
+            return bloco.size();
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao gravar bloco de produtos (itens {} a {}): {}",
+                    bloco.getFirst().indice(), bloco.getLast().indice(), ex.getMessage());
+            bloco.forEach(item -> erros.adicionar(item.indice(), "Falha ao gravar o bloco: " + ex.getMessage()));
+            return 0;
+        }
+    }
+}
@@ -3,22 +3,53 @@ package org.project.service;
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.project.configuration.properties.ProdutoProperties;
 import org.project.domain.entity.Produto;
+import org.project.domain.enums.ModoContagem;
 import org.project.domain.request.ProdutoAtualizarRequest;
 import org.project.domain.request.ProdutoBuscarRequest;
+import org.project.domain.request.ProdutoCursor;
 import org.project.domain.request.ProdutoSalvarRequest;
+import org.project.domain.response.ProdutoCursorResponse;
+import org.project.domain.response.ProdutoExclusaoResponse;
 import org.project.domain.response.ProdutoResponse;
+import org.project.handler.exception.BadRequestException;
+import org.project.handler.exception.PreconditionFailedException;
 import org.project.handler.exception.ResourceNotFoundException;
 import org.project.domain.mapper.ProdutoMapper;
+import org.project.metrics.MetricasServico;
+import org.project.metrics.MetricasServico.Etapa;
+import org.project.metrics.MetricasServico.ResultadoCache;
 import org.project.repository.ProdutoRepository;
+import org.project.repository.specification.ProdutoConsultas;
+import org.project.repository.specification.ProdutoFiltro;
 import org.project.repository.specification.ProdutoSpecification;
+import org.project.search.ProdutoIndiceTexto;
+import org.project.util.CacheName;
+import org.project.util.MetricaName;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Slf4j
 @AllArgsConstructor
@@ -27,6 +58,17 @@ public class ProdutoService {
 
     private final ProdutoRepository repository;
     private final ProdutoMapper mapper;
+    private final CacheManager cacheManager;
+    private final ProdutoIndiceTexto indiceTexto;
+    private final ProdutoProperties properties;
+    private final MetricasServico metricas;
+    private final CoalescedorChamadas coalescedor;
+
+    private static final String SERVICO = MetricaName.SERVICO_PRODUTO;
+    private static final int MAX_IDS_EXCLUSAO = 1000;
+    private static final int ESCALA_PRECO = 4;
+    private static final Set<String> ORDENACOES_CURSOR = Set.of("id", "nome", "preco");
+    private static final Set<String> CAMPOS_RESPOSTA = Set.of("id", "nome", "descricao", "preco", "versao");
 
     /**
      * Salva um novo produto no sistema a partir dos dados de requisição.
@@ -35,6 +77,9 @@ public class ProdutoService {
      * a entidade {@link Produto}, persiste a entidade no banco de dados usando o
      * {@link ProdutoRepository#save(Object)}, e então mapeia a entidade salva de volta para
      * um DTO de resposta ({@link ProdutoResponse}).
+     * A resposta é gravada no cache {@link CacheName#PRODUTO} após o commit da transação.
+     * Os tempos de repositório e de mapeamento são publicados em {@link MetricasServico}
+     * (a escrita no banco que ocorre no commit não entra na etapa de repositório).
      * <p>
      * SUMÁRIO: Cria um novo produto persistindo-o no banco de dados.
      *
@@ -45,17 +90,23 @@ public class ProdutoService {
      * @see ProdutoResponse
      */
     @Transactional
+    @Caching(
+            put = @CachePut(cacheNames = CacheName.PRODUTO, key = "#result.id()"),
+            evict = @CacheEvict(cacheNames = CacheName.PRODUTO_CONTAGEM, allEntries = true)
+    )
     public ProdutoResponse criar(@NonNull final ProdutoSalvarRequest request) {
-        log.info("Iniciando o processo de criação de um novo produto.");
-        log.debug("Dados de requisição recebidos para salvar produto: {}", request);
+        return metricas.medir(SERVICO, "criar", () -> {
+            log.debug("Dados de requisição recebidos para salvar produto: {}", request);
 
-        Produto produtoToSave = mapper.toEntity(request);
-        Produto savedProduto = repository.save(produtoToSave);
+            Produto produtoToSave = metricas.medirEtapa(SERVICO, "criar", Etapa.MAPEAMENTO, () -> mapper.toEntity(request));
+            Produto savedProduto = metricas.medirEtapa(SERVICO, "criar", Etapa.REPOSITORIO, () -> repository.save(produtoToSave));
+            indiceTexto.indexarAposCommit(savedProduto.getId(), savedProduto.getNome(), savedProduto.getDescricao(), savedProduto.getVersao());
 
-        log.info("Produto salvo com sucesso no banco de dados. ID gerado: {}", savedProduto.getId());
-        log.debug("Detalhes completos da entidade Produto salva: {}", savedProduto);
+            log.atInfo().setMessage("Produto criado").addKeyValue("produtoId", savedProduto.getId()).log();
+            log.debug("Detalhes completos da entidade Produto salva: {}", savedProduto);
 
-        return mapper.toResponse(savedProduto);
+            return metricas.medirEtapa(SERVICO, "criar", Etapa.MAPEAMENTO, () -> mapper.toResponse(savedProduto));
+        });
     }
 
     /**
@@ -98,6 +149,11 @@ public class ProdutoService {
      * Inicia o fluxo público para obter um produto. Delega a busca raw
      * e a validação/obtenção da entidade para métodos privados.
      * Lança ResourceNotFoundException se o produto não for encontrado.
+     * O resultado é servido pelo cache {@link CacheName#PRODUTO} quando presente;
+     * somente em caso de ausência (miss) a busca chega ao banco de dados e a resposta é gravada no cache.
+     * Acertos e ausências são medidos em {@code servico.operacao.cache} (tag {@code cache=hit|miss});
+     * os timers {@code servico.operacao} e de etapas cobrem apenas as ausências. Ausências simultâneas
+     * para o mesmo ID compartilham uma única consulta ({@link CoalescedorChamadas}), independentemente do TTL do cache.
      * <p>
      * SUMÁRIO: Obtém um produto (DTO) por ID para a camada de apresentação/API.
      *
@@ -106,103 +162,425 @@ public class ProdutoService {
      * @throws ResourceNotFoundException se nenhum produto for encontrado com o ID especificado.
      */
     public ProdutoResponse obterResponsePorId(final Integer id) {
-        return mapper.toResponse(obterPorId(id));
+        long inicio = System.nanoTime();
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(CacheName.PRODUTO));
+        ProdutoResponse emCache = cache.get(id, ProdutoResponse.class);
+        if (emCache != null) {
+            metricas.registrarCache(SERVICO, "obterResponsePorId", ResultadoCache.HIT, System.nanoTime() - inicio);
+            return emCache;
+        }
+
+        try {
+            ProdutoResponse response = coalescedor.executar(SERVICO, "obterResponsePorId", id, () -> metricas.medir(SERVICO, "obterResponsePorId", () -> {
+                Produto produto = metricas.medirEtapa(SERVICO, "obterResponsePorId", Etapa.REPOSITORIO, () -> obterPorId(id));
+                return metricas.medirEtapa(SERVICO, "obterResponsePorId", Etapa.MAPEAMENTO, () -> mapper.toResponse(produto));
+            }));
+            cache.put(id, response);
+            return response;
+        } finally {
+            metricas.registrarCache(SERVICO, "obterResponsePorId", ResultadoCache.MISS, System.nanoTime() - inicio);
+        }
+    }
+
+    /**
+     * Obtém apenas a versão atual de um produto, para validação de ETag ({@code If-None-Match}).
+     * A versão é lida da resposta em cache {@link CacheName#PRODUTO} quando presente; caso contrário,
+     * é consultada no banco sem carregar a entidade.
+     * <p>
+     * SUMÁRIO: Obtém a versão (ETag) de um produto por ID, sem carregar a entidade.
+     *
+     * @param id O ID do produto.
+     * @return A versão atual do produto.
+     * @throws ResourceNotFoundException se nenhum produto for encontrado com o ID especificado.
+     */
+    @Transactional(readOnly = true)
+    public long obterVersao(final Integer id) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(CacheName.PRODUTO));
+        ProdutoResponse emCache = cache.get(id, ProdutoResponse.class);
+        if (emCache != null) {
+            return emCache.versao();
+        }
+        return repository.findVersaoById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Produto não encontrado com ID: " + id));
     }
 
     /**
      * Busca produtos com base nos critérios fornecidos no DTO de busca, com suporte a paginação e ordenação.
-     * Utiliza Spring Data JPA Specifications para construir a consulta dinamicamente.
-     * Retorna uma página de DTOs de resposta.
+     * Executa a consulta JPQL pré-compilada para a forma do filtro ({@link ProdutoConsultas}), com os valores
+     * vinculados como parâmetros, projetando as colunas
+     * diretamente em {@link ProdutoResponse} (sem entidades gerenciadas nem mapeamento), e seleciona apenas
+     * os campos solicitados em {@code campos}.
+     * O modo de contagem define o custo da consulta:
+     * <ul>
+     *     <li>{@link ModoContagem#EXATA}: retorna uma {@link Page} com {@code count(*)} quando o total não pode ser
+     *     deduzido da própria página;</li>
+     *     <li>{@link ModoContagem#NENHUMA}: retorna um {@link Slice} lendo {@code size + 1} registros, sem contagem;</li>
+     *     <li>{@link ModoContagem#APROXIMADA}: retorna uma {@link Page} cujo total vem do cache
+     *     {@link CacheName#PRODUTO_CONTAGEM}, chaveado pelo critério normalizado.</li>
+     * </ul>
+     * A quantidade de registros retornados alimenta a distribuição {@code servico.busca.resultados}.
+     * Os critérios são normalizados ({@link ProdutoBuscarRequest#normalizado()}) antes da consulta.
+     * A página é lida por cada chamada na transação somente-leitura do método; apenas a contagem, que não depende
+     * da paginação, é compartilhada entre buscas simultâneas com o mesmo critério ({@link CoalescedorChamadas}).
      * <p>
-     * SUMÁRIO: Busca produtos (DTOs) por critérios de filtro, com paginação e ordenação.
+     * SUMÁRIO: Busca produtos (DTOs) por critérios de filtro, com paginação, ordenação, contagem configurável
+     * e campos esparsos.
      *
      * @param request DTO contendo os critérios de busca (nome, descricao, minPreco, maxPreco).
      * Pode ser nulo se nenhum critério de busca for fornecido.
      * @param pageable Objeto Pageable contendo informações de paginação e ordenação. Não deve ser nulo.
-     * @return Uma página de DTOs {@link ProdutoResponse} contendo os produtos que correspondem aos critérios.
-     * Retorna uma página vazia se nenhum produto for encontrado.
+     * @param contagem Estratégia de contagem do total de resultados. Não deve ser nula.
+     * @param campos Campos de {@link ProdutoResponse} a retornar; nulo ou vazio retorna todos.
+     * {@code id} e {@code versao} são sempre retornados.
+     * @return Uma página (ou fatia, no modo {@link ModoContagem#NENHUMA}) de DTOs {@link ProdutoResponse}
+     * contendo os produtos que correspondem aos critérios. Retorna uma página vazia se nenhum produto for encontrado.
+     * @throws BadRequestException se algum campo solicitado ou propriedade de ordenação não existir.
+     */
+    @Transactional(readOnly = true)
+    public Slice<ProdutoResponse> buscar(
+            final ProdutoBuscarRequest request, @NonNull final Pageable pageable, @NonNull final ModoContagem contagem,
+            final Set<String> campos
+    ) {
+        Set<String> selecionados = campos == null ? Set.of() : campos;
+        if (!CAMPOS_RESPOSTA.containsAll(selecionados)) {
+            throw new BadRequestException("Campos inválidos. Campos disponíveis: " + CAMPOS_RESPOSTA);
+        }
+        if (pageable.getSort().stream().anyMatch(ordem -> !ProdutoConsultas.ORDENAVEIS.contains(ordem.getProperty()))) {
+            throw new BadRequestException("Ordenação inválida. Propriedades disponíveis: " + ProdutoConsultas.ORDENAVEIS);
+        }
+
+        ProdutoBuscarRequest criterio = request == null ? null : request.normalizado();
+        return metricas.medir(SERVICO, "buscar", () -> {
+            log.debug("Critérios de busca recebidos: {}, campos: {}", request, selecionados);
+            log.debug("Informações de paginação e ordenação: {}, contagem: {}", pageable, contagem);
+
+            Slice<ProdutoResponse> produtos = metricas.medirEtapa(SERVICO, "buscar", Etapa.REPOSITORIO, () -> {
+                ProdutoFiltro filtro = filtro(criterio);
+                Slice<ProdutoResponse> slice = repository.findSliceResponse(filtro, pageable, selecionados);
+                return switch (contagem) {
+                    case EXATA -> PageableExecutionUtils.getPage(slice.getContent(), pageable, () -> contar(criterio, filtro));
+                    case NENHUMA -> slice;
+                    case APROXIMADA -> comContagemAproximada(criterio, filtro, slice, pageable);
+                };
+            });
+            metricas.registrarResultados(SERVICO, "buscar", produtos.getNumberOfElements());
+
+            log.atDebug().setMessage("Busca paginada de produtos finalizada")
+                    .addKeyValue("pagina", () -> produtos.getNumber() + 1)
+                    .addKeyValue("elementos", produtos::getNumberOfElements)
+                    .addKeyValue("proximaPagina", produtos::hasNext)
+                    .log();
+
+            return produtos;
+        });
+    }
+
+    /**
+     * Conta os produtos do filtro; contagens simultâneas do mesmo critério normalizado compartilham uma única consulta.
+     */
+    private long contar(final ProdutoBuscarRequest criterio, final ProdutoFiltro filtro) {
+        return coalescedor.executar(SERVICO, "contar", chaveContagem(criterio), () -> repository.contar(filtro));
+    }
+
+    private static ProdutoBuscarRequest chaveContagem(final ProdutoBuscarRequest criterio) {
+        return criterio == null ? new ProdutoBuscarRequest(null, null, null, null) : criterio;
+    }
+
+    /**
+     * Percorre todos os produtos que atendem aos critérios, em ordem, entregando um DTO por vez ao consumidor.
+     * Usa um cursor JDBC somente-avanço com {@code produto.exportacao.tamanho-fetch} linhas por ida ao banco
+     * e desanexa cada entidade após o mapeamento, mantendo o uso de memória constante independentemente
+     * do tamanho da tabela. Não executa contagem.
+     * <p>
+     * SUMÁRIO: Percorre produtos (DTOs) por critérios de filtro, em fluxo, para exportação.
+     *
+     * @param request DTO contendo os critérios de busca. Pode ser nulo.
+     * @param sort Ordenação dos registros. Não deve ser nula.
+     * @param consumidor Função chamada para cada produto encontrado.
+     * @return Quantidade de produtos percorridos.
+     */
+    @Transactional(readOnly = true)
+    public long exportar(
+            final ProdutoBuscarRequest request, @NonNull final Sort sort, @NonNull final Consumer<ProdutoResponse> consumidor
+    ) {
+        Specification<Produto> spec = especificacao(request);
+        return repository.percorrer(spec, sort, properties.exportacao().tamanhoFetch(),
+                produto -> consumidor.accept(mapper.toResponse(produto)));
+    }
+
+    /**
+     * Função interna que monta os critérios de busca. Os critérios são normalizados
+     * ({@link ProdutoBuscarRequest#normalizado()}) antes de qualquer uso, como na busca paginada.
+     * Quando há filtro de nome/descrição e o índice de texto consegue respondê-lo, os {@code LIKE} são
+     * substituídos pelos IDs candidatos do índice; caso contrário, usa
+     * {@link ProdutoSpecification#bySearchCriteria(ProdutoBuscarRequest)}.
+     * <p>
+     * SUMÁRIO: Monta a Specification de busca, preferindo o índice de texto ao LIKE.
+     */
+    private Specification<Produto> especificacao(final ProdutoBuscarRequest request) {
+        if (request == null) {
+            return ProdutoSpecification.bySearchCriteria(null);
+        }
+        ProdutoBuscarRequest criterio = request.normalizado();
+        return indiceTexto.candidatos(criterio.nome(), criterio.descricao())
+                .map(candidatos -> ProdutoSpecification.bySearchCriteria(criterio, candidatos))
+                .orElseGet(() -> ProdutoSpecification.bySearchCriteria(criterio));
+    }
+
+    /**
+     * Função interna que monta os valores de filtro da busca paginada, com a mesma preferência de
+     * {@code especificacao}: IDs candidatos do índice de texto quando disponíveis, {@code LIKE} caso contrário.
+     * A forma resultante escolhe a consulta pré-compilada em {@link ProdutoConsultas}.
+     * <p>
+     * SUMÁRIO: Monta o filtro parametrizado de busca, preferindo o índice de texto ao LIKE.
+     */
+    private ProdutoFiltro filtro(final ProdutoBuscarRequest request) {
+        if (request == null) {
+            return ProdutoFiltro.de(null);
+        }
+        return indiceTexto.candidatos(request.nome(), request.descricao())
+                .map(candidatos -> ProdutoFiltro.de(request, candidatos))
+                .orElseGet(() -> ProdutoFiltro.de(request));
+    }
+
+    /**
+     * Função interna que completa uma fatia de produtos com a contagem em cache para o critério normalizado.
+     * O critério recebido já é o normalizado usado na consulta, de modo que a chave do cache e a consulta
+     * veem os mesmos termos. Em caso de ausência no cache, executa {@code count(*)} uma única vez.
+     * O total nunca é menor do que o necessário para representar a fatia atual.
+     * <p>
+     * SUMÁRIO: Converte a fatia de produtos em página com total aproximado (cache de contagem).
+     */
+    private Page<ProdutoResponse> comContagemAproximada(
+            final ProdutoBuscarRequest request, final ProdutoFiltro filtro,
+            final Slice<ProdutoResponse> slice, final Pageable pageable
+    ) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(CacheName.PRODUTO_CONTAGEM));
+        Long total = cache.get(chaveContagem(request), () -> contar(request, filtro));
+
+        long minimo = pageable.getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+        return new PageImpl<>(slice.getContent(), pageable, Math.max(Objects.requireNonNull(total), minimo));
+    }
+
+    /**
+     * Busca produtos por critérios usando paginação por cursor (keyset/seek) em vez de {@code OFFSET}.
+     * A página seguinte é localizada por {@code WHERE (chave, id) > (valor, id)} a partir do cursor,
+     * combinado com os critérios de busca (ver {@code especificacao}).
+     * São lidos {@code size + 1} registros para detectar se há próxima página, sem {@code count(*)},
+     * de modo que páginas profundas custam o mesmo que a primeira.
+     * <p>
+     * SUMÁRIO: Busca produtos (DTOs) por critérios, paginando por cursor opaco.
+     *
+     * @param request DTO contendo os critérios de busca. Pode ser nulo.
+     * @param after Cursor opaco devolvido pela página anterior, ou nulo para a primeira página.
+     * @param pageable Tamanho da página e ordenação (apenas uma propriedade entre {@code id}, {@code nome}, {@code preco}).
+     * O número da página é ignorado.
+     * @return Conteúdo da página, cursor da próxima página e indicador de existência de próxima página.
+     * @throws BadRequestException se o cursor for inválido ou não corresponder à ordenação solicitada.
      */
     @Transactional(readOnly = true)
-    public Page<ProdutoResponse> buscar(final ProdutoBuscarRequest request, @NonNull final Pageable pageable) {
-        log.info("Iniciando busca paginada de produtos");
-        log.debug("Critérios de busca recebidos: {}", request);
-        log.debug("Informações de paginação e ordenação: {}", pageable);
+    public ProdutoCursorResponse buscarPorCursor(
+            final ProdutoBuscarRequest request, final String after, @NonNull final Pageable pageable
+    ) {
+        log.debug("Busca por cursor. Critérios: {}, cursor: {}, paginação: {}", request, after, pageable);
+
+        Sort.Order ordem = ordemCursor(pageable.getSort());
+        Sort sort = Sort.by(ordem, new Sort.Order(ordem.getDirection(), "id"));
+
+        Specification<Produto> spec = especificacao(request);
+        if (after != null && !after.isBlank()) {
+            ProdutoCursor cursor = ProdutoCursor.decode(after);
+            if (!cursor.ordenacao().equals(ordem.getProperty()) || cursor.direcao() != ordem.getDirection()) {
+                throw new BadRequestException("Cursor não corresponde à ordenação solicitada: " + ordem);
+            }
+            spec = spec.and(ProdutoSpecification.after(cursor));
+        }
 
-        Specification<Produto> spec = ProdutoSpecification.bySearchCriteria(request);
-        Page<Produto> produtosPage = repository.findAll(spec, pageable);
+        int size = pageable.getPageSize();
+        List<Produto> produtos = repository.findBy(spec, query -> query.sortBy(sort).limit(size + 1).all());
 
-        log.info("Busca paginada de produtos finalizada. Página {} de {}, Total de elementos: {}",
-                produtosPage.getNumber() + 1, produtosPage.getTotalPages(), produtosPage.getTotalElements());
+        boolean hasNext = produtos.size() > size;
+        List<Produto> pagina = hasNext ? produtos.subList(0, size) : produtos;
+        metricas.registrarResultados(SERVICO, "buscarPorCursor", pagina.size());
+        String next = hasNext ? cursorDe(pagina.getLast(), ordem).encode() : null;
+
+        log.debug("Busca por cursor finalizada. Registros: {}, próxima página: {}", pagina.size(), hasNext);
+        return new ProdutoCursorResponse(pagina.stream().map(mapper::toResponse).toList(), next, hasNext);
+    }
+
+    private static Sort.Order ordemCursor(final Sort sort) {
+        List<Sort.Order> ordens = sort.stream().filter(ordem -> !ordem.getProperty().equals("id")).toList();
+        if (ordens.isEmpty()) {
+            return sort.stream().findFirst().orElse(Sort.Order.asc("id"));
+        }
+        if (ordens.size() > 1 || !ORDENACOES_CURSOR.contains(ordens.getFirst().getProperty())) {
+            throw new BadRequestException("Paginação por cursor suporta ordenação por apenas uma propriedade entre " + ORDENACOES_CURSOR);
+        }
+        return ordens.getFirst();
+    }
 
-        return produtosPage.map(mapper::toResponse);
+    private static ProdutoCursor cursorDe(final Produto produto, final Sort.Order ordem) {
+        String valor = switch (ordem.getProperty()) {
+            case "nome" -> produto.getNome();
+            case "preco" -> produto.getPreco().toPlainString();
+            default -> produto.getId().toString();
+        };
+        return new ProdutoCursor(ordem.getProperty(), ordem.getDirection(), produto.getId(), valor);
     }
 
     /**
      * Atualiza os dados de um produto existente.
-     * Busca o produto pelo ID. Se encontrado, atualiza seus campos com base nos dados
-     * fornecidos no DTO de requisição (apenas campos não nulos). Salva as alterações
-     * e retorna o produto atualizado como DTO de resposta.
+     * Aplica os campos não nulos do DTO de requisição com um único {@code UPDATE ... WHERE id = ?}
+     * (sem leitura prévia nem verificação de alterações pelo Hibernate), incrementando a versão somente
+     * quando algum valor de fato muda. Quando uma versão esperada é informada ({@code If-Match}), ela faz parte
+     * da condição do {@code UPDATE}, de modo que a verificação e a gravação são atômicas.
+     * Se o {@code UPDATE} afetou o registro e a requisição trouxe todos os campos junto com a versão esperada,
+     * a resposta é montada a partir desses valores, sem nova ida ao banco. Nos demais casos o produto é lido
+     * uma vez para compor a resposta ou para distinguir 404, 412 e atualização sem alterações.
      * <p>
      * SUMÁRIO: Atualiza um produto existente por ID.
      *
      * @param id O ID do produto a ser atualizado.
      * @param request DTO contendo os dados para atualização. Apenas campos não nulos serão considerados.
-     * @return DTO de resposta com os dados do produto atualizado.
+     * @param versaoEsperada Versão que o cliente conhece, ou nulo para não verificar.
+     * @return A entidade Produto com os dados atualizados.
      * @throws ResourceNotFoundException se nenhum produto for encontrado com o ID especificado.
+     * @throws PreconditionFailedException se a versão atual for diferente da versão esperada.
      */
-    @Transactional
-    private Produto atualizar(@NonNull final Integer id, @NonNull final ProdutoAtualizarRequest request) {
-        log.info("Iniciando o processo de atualização do produto com ID: {}", id);
+    private Produto atualizar(
+            @NonNull final Integer id, @NonNull final ProdutoAtualizarRequest request, final Long versaoEsperada
+    ) {
         log.debug("Dados de requisição recebidos para atualizar produto com ID {}: {}", id, request);
 
-        Produto produtoToUpdate = obterPorId(id);
-
-        log.debug("Produto existente encontrado para atualização: {}", produtoToUpdate);
+        Produto updatedProduto = metricas.medirEtapa(SERVICO, "atualizarResponse", Etapa.REPOSITORIO, () -> {
+            int atualizados = repository.atualizarParcialmente(
+                    id, request.nome(), request.descricao(), request.preco(), versaoEsperada);
+            if (atualizados > 0 && versaoEsperada != null && request.completo()) {
+                return produtoAtualizado(id, request, versaoEsperada + 1);
+            }
+            Produto atual = obterPorId(id);
+            if (atualizados == 0 && versaoEsperada != null && !versaoEsperada.equals(atual.getVersao())) {
+                throw new PreconditionFailedException("Produto com ID " + id + " foi alterado. Versão informada: " + versaoEsperada);
+            }
+            return atual;
+        });
+        indiceTexto.indexarAposCommit(updatedProduto.getId(), updatedProduto.getNome(), updatedProduto.getDescricao(), updatedProduto.getVersao());
 
-        mapper.toRequest(request, produtoToUpdate);
-        Produto updatedProduto = repository.save(produtoToUpdate);
-
-        log.info("Produto com ID {} atualizado com sucesso.", updatedProduto.getId());
+        log.atInfo().setMessage("Produto atualizado").addKeyValue("produtoId", updatedProduto.getId()).log();
         log.debug("Detalhes completos da entidade Produto atualizada: {}", updatedProduto);
 
         return updatedProduto;
     }
 
+    /**
+     * Monta o estado gravado pelo {@code UPDATE} a partir da requisição completa e da nova versão,
+     * arredondando o preço à escala da coluna como o banco faz.
+     */
+    private static Produto produtoAtualizado(final Integer id, final ProdutoAtualizarRequest request, final long versao) {
+        Produto produto = new Produto();
+        produto.setId(id);
+        produto.setNome(request.nome());
+        produto.setDescricao(request.descricao());
+        produto.setPreco(request.preco().setScale(ESCALA_PRECO, RoundingMode.HALF_UP));
+        produto.setVersao(versao);
+        return produto;
+    }
+
     /**
      * Atualiza os dados de um produto existente e retorna um DTO de resposta.
      * Utiliza a função {@code atualizar} para realizar a lógica de atualização
      * e então mapeia a entidade atualizada para um DTO de resposta.
      * Esta é a função para a camada de apresentação/API realizar atualizações.
+     * A transação é aberta aqui (e não em {@code atualizar}, que é privado e não passa pelo proxy),
+     * e a entrada do cache {@link CacheName#PRODUTO} é atualizada somente após o commit.
      * <p>
      * SUMÁRIO: Atualiza um produto existente por ID (uso público, retorna DTO).
      *
      * @param id O ID do produto a ser atualizado.
      * @param request DTO contendo os dados para atualização. Apenas campos não nulos serão considerados.
+     * @param versaoEsperada Versão que o cliente conhece ({@code If-Match}), ou nulo para não verificar.
      * @return DTO de resposta com os dados do produto atualizado.
      * @throws ResourceNotFoundException se nenhum produto for encontrado com o ID especificado.
+     * @throws BadRequestException se nenhum campo for informado.
+     * @throws PreconditionFailedException se a versão atual for diferente da versão esperada.
      */
-    public ProdutoResponse atualizarResponse(final Integer id, final ProdutoAtualizarRequest request) {
-        return mapper.toResponse(atualizar(id, request));
+    @Transactional
+    @Caching(
+            put = @CachePut(cacheNames = CacheName.PRODUTO, key = "#id"),
+            evict = @CacheEvict(cacheNames = CacheName.PRODUTO_CONTAGEM, allEntries = true)
+    )
+    public ProdutoResponse atualizarResponse(
+            final Integer id, final ProdutoAtualizarRequest request, final Long versaoEsperada
+    ) {
+        if (request.vazio()) {
+            throw new BadRequestException("Informe ao menos um campo para atualizar o produto com ID " + id);
+        }
+        return metricas.medir(SERVICO, "atualizarResponse", () -> {
+            Produto produto = atualizar(id, request, versaoEsperada);
+            return metricas.medirEtapa(SERVICO, "atualizarResponse", Etapa.MAPEAMENTO, () -> mapper.toResponse(produto));
+        });
     }
 
     /**
      * Deleta um produto pelo seu ID.
-     * Primeiro verifica se o produto existe usando {@code obterPorId}.
-     * Se o produto não for encontrado, {@code obterPorId} lançará {@code ResourceNotFoundException}.
-     * Se o produto for encontrado, ele é deletado do repositório.
+     * Executa um único {@code DELETE ... WHERE id = ?}, sem carregar a entidade; se nenhum registro
+     * for afetado, o produto não existe e {@code ResourceNotFoundException} é lançada.
+     * O produto é removido do cache {@link CacheName#PRODUTO} e do índice de texto após o commit.
      * <p>
-     * SUMÁRIO: Deleta um produto por ID, verificando sua existência primeiro.
+     * SUMÁRIO: Deleta um produto por ID em uma única ida ao banco.
      *
      * @param id O ID do produto a ser deletado.
      * @throws ResourceNotFoundException se nenhum produto for encontrado com o ID especificado.
      */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheName.PRODUTO, key = "#id"),
+            @CacheEvict(cacheNames = CacheName.PRODUTO_CONTAGEM, allEntries = true)
+    })
     public void deletar(@NonNull final Integer id) {
-        log.info("Iniciando exclusão do produto com ID: {}", id);
+        metricas.medir(SERVICO, "deletar", () -> {
+            int excluidos = metricas.medirEtapa(SERVICO, "deletar", Etapa.REPOSITORIO, () -> repository.excluirPorId(id));
+            if (excluidos == 0) {
+                throw new ResourceNotFoundException("Produto não encontrado com ID: " + id);
+            }
+            indiceTexto.removerAposCommit(List.of(id));
+
+            log.atInfo().setMessage("Produto excluído").addKeyValue("produtoId", id).log();
+        });
+    }
+
+    /**
+     * Deleta vários produtos pelos seus IDs com um único {@code DELETE ... WHERE id IN (...)}.
+     * IDs inexistentes são ignorados; a resposta informa quantos foram de fato excluídos.
+     * As entradas de cada ID são removidas do cache {@link CacheName#PRODUTO} e do índice de texto após o commit.
+     * <p>
+     * SUMÁRIO: Deleta produtos em lote por IDs em uma única ida ao banco.
+     *
+     * @param ids IDs dos produtos a serem deletados (entre 1 e {@value #MAX_IDS_EXCLUSAO}).
+     * @return Quantidade de IDs distintos solicitados e de produtos excluídos.
+     * @throws BadRequestException se nenhum ID for informado ou se o limite for excedido.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = CacheName.PRODUTO_CONTAGEM, allEntries = true)
+    public ProdutoExclusaoResponse deletarLote(@NonNull final Collection<Integer> ids) {
+        Set<Integer> distintos = new LinkedHashSet<>(ids);
+        distintos.remove(null);
+        if (distintos.isEmpty() || distintos.size() > MAX_IDS_EXCLUSAO) {
+            throw new BadRequestException("Informe entre 1 e " + MAX_IDS_EXCLUSAO + " IDs para exclusão.");
+        }
+
+        return metricas.medir(SERVICO, "deletarLote", () -> {
+            int excluidos = metricas.medirEtapa(SERVICO, "deletarLote", Etapa.REPOSITORIO, () -> repository.excluirPorIds(distintos));
 
-        Produto produto = obterPorId(id);
-        repository.deleteById(produto.getId());
+            Cache cache = Objects.requireNonNull(cacheManager.getCache(CacheName.PRODUTO));
+            distintos.forEach(cache::evict);
+            indiceTexto.removerAposCommit(distintos);
 
-        log.info("Produto com ID {} excluído com sucesso.", produto.getId());
+            log.atInfo().setMessage("Produtos excluídos em lote")
+                    .addKeyValue("solicitados", distintos.size())
+                    .addKeyValue("excluidos", excluidos)
+                    .log();
+            return new ProdutoExclusaoResponse(distintos.size(), excluidos);
+        });
     }
-}
\ No newline at end of file
+}
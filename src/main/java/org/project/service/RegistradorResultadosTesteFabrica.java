@@ -0,0 +1,191 @@
+package org.project.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.project.configuration.properties.TesteFabricaProperties;
+import org.project.domain.enums.CarroStatus;
+import org.project.domain.enums.ModeloCarro;
+import org.project.domain.enums.Montadora;
+import org.project.domain.enums.TipoChave;
+import org.project.domain.object.ResultadoIgnicao;
+import org.project.domain.response.TesteFabricaResultadoResponse;
+import org.project.repository.ResultadoTesteFabricaRepository;
+import org.project.util.MetricaName;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registro, somente inserção, dos resultados de ignição dos testes de fábrica.
+ * <p>
+ * Quem registra apenas enfileira o resultado em uma fila sem bloqueio e incrementa os contadores agregados;
+ * a gravação acontece no {@code taskScheduler}, em lotes JDBC, quando a fila atinge
+ * {@code testes-fabrica.resultados.tamanho-lote} ou a cada {@code testes-fabrica.resultados.intervalo-descarga}.
+ * Acima de {@code testes-fabrica.resultados.capacidade} resultados pendentes, novos resultados são descartados
+ * (métrica {@code testes.fabrica.resultados.descartados}) em vez de atrasar as requisições.
+ * <p>
+ * Os contadores por combinação são carregados do banco na inicialização e mantidos em memória,
+ * de modo que a consulta agregada não percorre a tabela.
+ */
+@Slf4j
+@Component
+public class RegistradorResultadosTesteFabrica {
+    private static final CarroStatus[] STATUS = CarroStatus.values();
+
+    private final ResultadoTesteFabricaRepository repository;
+    private final TaskScheduler taskScheduler;
+    private final TesteFabricaProperties.Resultados properties;
+    private final Counter descartados;
+
+    private final Queue<ResultadoIgnicao> fila = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendentes = new AtomicInteger();
+    private final AtomicBoolean descargaAgendada = new AtomicBoolean();
+    private final Map<Combinacao, LongAdder[]> contadores = new ConcurrentHashMap<>();
+
+    private record Combinacao(Montadora montadoraChave, TipoChave tipoChave, String motor, ModeloCarro modelo) { }
+
+    public RegistradorResultadosTesteFabrica(
+            ResultadoTesteFabricaRepository repository,
+            TaskScheduler taskScheduler,
+            TesteFabricaProperties properties,
+            MeterRegistry registry
+    ) {
+        this.repository = repository;
+        this.taskScheduler = taskScheduler;
+        this.properties = properties.resultados();
+        this.descartados = registry.counter(MetricaName.RESULTADOS_TESTE_FABRICA_DESCARTADOS);
+        Gauge.builder(MetricaName.RESULTADOS_TESTE_FABRICA_PENDENTES, pendentes, AtomicInteger::get).register(registry);
+    }
+
+    /**
+     * Carrega os contadores a partir dos resultados já gravados e agenda a descarga periódica.
+     */
+    @PostConstruct
+    public void iniciar() {
+        List<ResultadoIgnicao> gravados = repository.somarPorCombinacao();
+        gravados.forEach(this::contar);
+        log.info("Contadores de resultados dos testes de fábrica carregados. Combinações: {}", contadores.size());
+
+        taskScheduler.scheduleWithFixedDelay(this::descarregar, properties.intervaloDescarga());
+    }
+
+    /**
+     * Registra o resultado sem acessar o banco de dados.
+     */
+    public void registrar(final ResultadoIgnicao resultado) {
+        if (pendentes.incrementAndGet() > properties.capacidade()) {
+            pendentes.decrementAndGet();
+            descartados.increment();
+            return;
+        }
+        fila.offer(resultado);
+        contar(resultado);
+
+        if (pendentes.get() >= properties.tamanhoLote() && descargaAgendada.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::descarregar, Instant.now());
+        }
+    }
+
+    /**
+     * Grava os resultados pendentes em lotes de até {@code tamanho-lote} linhas.
+     * Um lote que falhar é descartado e registrado em log; os contadores em memória não são revertidos.
+     */
+    @PreDestroy
+    public synchronized void descarregar() {
+        descargaAgendada.set(false);
+        List<ResultadoIgnicao> lote = new ArrayList<>(properties.tamanhoLote());
+        ResultadoIgnicao resultado;
+        while ((resultado = fila.poll()) != null) {
+            lote.add(resultado);
+            if (lote.size() == properties.tamanhoLote()) {
+                gravar(lote);
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            gravar(lote);
+        }
+    }
+
+    /**
+     * Consulta os contadores agregados. Filtros nulos aceitam qualquer valor.
+     *
+     * @return Totais por combinação, ordenados por montadora e tipo da chave, motor e modelo.
+     */
+    public List<TesteFabricaResultadoResponse> agregar(
+            final Montadora montadoraChave, final TipoChave tipoChave, final String motor, final ModeloCarro modelo
+    ) {
+        return contadores.entrySet().stream()
+                .filter(entrada -> aceita(montadoraChave, entrada.getKey().montadoraChave())
+                        && aceita(tipoChave, entrada.getKey().tipoChave())
+                        && aceita(motor, entrada.getKey().motor())
+                        && aceita(modelo, entrada.getKey().modelo()))
+                .map(entrada -> resposta(entrada.getKey(), entrada.getValue()))
+                .sorted(Comparator.comparing(TesteFabricaResultadoResponse::montadoraChave, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(TesteFabricaResultadoResponse::tipoChave, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(TesteFabricaResultadoResponse::motor)
+                        .thenComparing(TesteFabricaResultadoResponse::modelo))
+                .toList();
+    }
+
+    private void gravar(final List<ResultadoIgnicao> lote) {
+        pendentes.addAndGet(-lote.size());
+        try {
+            repository.inserir(lote);
+            log.debug("Resultados dos testes de fábrica gravados: {}", lote.size());
+        } catch (DataAccessException ex) {
+            descartados.increment(lote.size());
+            log.error("Falha ao gravar {} resultados dos testes de fábrica. O lote foi descartado.", lote.size(), ex);
+        }
+    }
+
+    private void contar(final ResultadoIgnicao resultado) {
+        Combinacao combinacao = new Combinacao(
+                resultado.montadoraChave(), resultado.tipoChave(), resultado.motor(), resultado.modelo());
+        contadores.computeIfAbsent(combinacao, chave -> novosContadores())[resultado.status().ordinal()]
+                .add(resultado.quantidade());
+    }
+
+    private static LongAdder[] novosContadores() {
+        LongAdder[] adders = new LongAdder[STATUS.length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static TesteFabricaResultadoResponse resposta(final Combinacao combinacao, final LongAdder[] adders) {
+        Map<CarroStatus, Long> status = new EnumMap<>(CarroStatus.class);
+        long total = 0;
+        for (CarroStatus situacao : STATUS) {
+            long quantidade = adders[situacao.ordinal()].sum();
+            status.put(situacao, quantidade);
+            total += quantidade;
+        }
+        double taxaSucesso = total == 0 ? 0 : (double) status.get(CarroStatus.LIGADO) / total;
+        return new TesteFabricaResultadoResponse(
+                combinacao.montadoraChave(), combinacao.tipoChave(), combinacao.motor(), combinacao.modelo(),
+                total, status, taxaSucesso);
+    }
+
+    private static <T> boolean aceita(final T filtro, final T valor) {
+        return filtro == null || filtro.equals(valor);
+    }
+}
@@ -1,71 +1,383 @@
 package org.project.service;
 
-import lombok.AllArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.project.annotation.MotorAspirado;
-import org.project.annotation.MotorEletrico;
-import org.project.annotation.MotorTurbo;
+import org.project.configuration.properties.TesteFabricaProperties;
 import org.project.domain.enums.CarroStatus;
+import org.project.domain.enums.ModeloCarro;
+import org.project.domain.enums.Montadora;
+import org.project.domain.enums.TipoChave;
+import org.project.domain.object.Carro;
 import org.project.domain.object.Chave;
 import org.project.domain.object.Motor;
-import org.project.domain.object.carro.HondaHRV;
+import org.project.domain.object.RegistroCarros;
+import org.project.domain.object.ResultadoIgnicao;
+import org.project.domain.request.TesteFabricaLoteRequest;
+import org.project.domain.response.TesteFabricaCombinacaoResponse;
+import org.project.domain.response.TesteFabricaResultadoResponse;
+import org.project.domain.response.TesteFabricaResumoResponse;
+import org.project.handler.exception.BadRequestException;
+import org.project.handler.exception.ResourceNotFoundException;
+import org.project.handler.exception.UnprocessableEntityException;
+import org.project.metrics.MetricasServico;
+import org.project.util.MetricaName;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
 @Slf4j
-@AllArgsConstructor
 @Service
 public class TesteFabricaService {
-    @MotorAspirado
-    private final Motor motorAspirado;
+    private final CatalogoMotores catalogo;
+    private final MetricasServico metricas;
+    private final TesteFabricaProperties properties;
+    private final RegistradorResultadosTesteFabrica registrador;
+    private final ForkJoinPool testeFabricaPool;
+
+    private static final ModeloCarro MODELO_PADRAO = ModeloCarro.HVR;
+    private static final CarroStatus[] STATUS = CarroStatus.values();
+
+    /**
+     * O pool fork-join da simulação em lote é dedicado ao serviço, separado do {@code commonPool} para não competir
+     * com streams paralelos de outras partes da aplicação. Não é exposto como bean: um {@code Executor} no contexto
+     * faria o Spring Boot deixar de criar o {@code applicationTaskExecutor} usado pelos métodos {@code @Async}.
+     */
+    public TesteFabricaService(
+            CatalogoMotores catalogo,
+            MetricasServico metricas,
+            TesteFabricaProperties properties,
+            RegistradorResultadosTesteFabrica registrador
+    ) {
+        this.catalogo = catalogo;
+        this.metricas = metricas;
+        this.properties = properties;
+        this.registrador = registrador;
+        int paralelismo = properties.lote().paralelismo() > 0
+                ? properties.lote().paralelismo()
+                : Runtime.getRuntime().availableProcessors();
+        this.testeFabricaPool = new ForkJoinPool(paralelismo);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        testeFabricaPool.shutdownNow();
+    }
 
-    @MotorEletrico
-    private final Motor motorEletrico;
+    /**
+     * Combinação da matriz de ignições.
+     */
+    public record Combinacao(Chave chave, String motor, ModeloCarro modelo) { }
 
-    @MotorTurbo
-    private final Motor motorTurbo;
+    /**
+     * Matriz de ignições validada, pronta para execução com os carros da versão do catálogo usada na validação.
+     */
+    public record PlanoLote(List<Combinacao> combinacoes, long repeticoes, RegistroCarros registro) {
+        public long ignicoes() {
+            return combinacoes.size() * repeticoes;
+        }
+    }
 
     /**
-     * Tenta ligar um carro usando o motor aspirado injetado.
+     * Tenta ligar o carro do modelo padrão ({@code HVR}) equipado com o motor informado.
+     * O motor é consultado no {@link CatalogoMotores} e a instância do carro é compartilhada.
+     * <p>
+     * SUMÁRIO: Simula a ignição do carro padrão com o motor informado.
+     *
+     * @param nomeMotor Nome do motor no catálogo, sem diferenciar maiúsculas e minúsculas (ex: {@code turbo}).
      * @param chave A chave a ser usada.
      * @return A situação resultante da tentativa de ignição.
+     * @throws ResourceNotFoundException se o motor não existir no catálogo atual.
      */
-    public CarroStatus ligarCarroComMotorAspirado(final Chave chave) {
-        log.info("Iniciando tentativa de ligar o carro com o motor aspirado e a chave: {}", chave);
-        log.debug("Criando instância de HondaHRV com o motor aspirado: {}", motorAspirado);
+    public CarroStatus ligarCarro(final String nomeMotor, final Chave chave) {
+        log.debug("Iniciando tentativa de ligar o carro com o motor {} e a chave: {}", nomeMotor, chave);
+        String motor = CatalogoMotores.nome(nomeMotor);
+        RegistroCarros registro = catalogo.atual().registro();
+        if (!registro.contem(MODELO_PADRAO, motor)) {
+            throw new ResourceNotFoundException("Motor não encontrado: " + nomeMotor);
+        }
 
-        CarroStatus status = new HondaHRV(motorAspirado).ignicao(chave);
+        CarroStatus status = metricas.medir(MetricaName.SERVICO_TESTE_FABRICA, "ligarCarro",
+                () -> registro.carro(MODELO_PADRAO, motor).ignicao(chave));
+        registrar(chave, motor, MODELO_PADRAO, status, 1);
 
-        log.info("Processo de ignição (Motor Aspirado) concluído. Status: {} - Descrição: {}", status, status.getDescricao());
+        log.atDebug().setMessage("Processo de ignição concluído")
+                .addKeyValue("motor", motor)
+                .addKeyValue("status", status)
+                .log();
         return status;
     }
 
     /**
-     * Tenta ligar um carro usando o motor elétrico injetado.
-     * @param chave A chave a ser usada.
-     * @return A situação resultante da tentativa de ignição.
+     * Relê o catálogo de motores e substitui atomicamente os carros disponíveis para testes.
+     * Operações em andamento terminam com a versão anterior.
+     * <p>
+     * SUMÁRIO: Recarrega o catálogo de motores.
+     *
+     * @return Os motores carregados.
+     * @throws UnprocessableEntityException se o arquivo do catálogo for inválido (o catálogo atual é mantido).
      */
-    public CarroStatus ligarCarroComMotorEletrico(final Chave chave) {
-        log.info("Iniciando tentativa de ligar o carro com o motor elétrico e a chave: {}", chave);
-        log.debug("Criando instância de HondaHRV com o motor elétrico: {}", motorEletrico);
+    public Collection<Motor> recarregarMotores() {
+        return catalogo.recarregar();
+    }
 
-        CarroStatus status = new HondaHRV(motorEletrico).ignicao(chave);
+    /**
+     * Valida a requisição e expande a matriz {@code chaves × motores × modelos} em combinações.
+     * O total de ignições é calculado e conferido antes de qualquer combinação ser alocada.
+     * Separada da execução para que erros de validação sejam devolvidos antes do início da resposta em fluxo.
+     *
+     * @param request Matriz de ignições solicitada.
+     * @return Plano com as combinações e a quantidade de repetições.
+     * @throws BadRequestException se uma chave estiver incompleta, um modelo não estiver disponível
+     * ou o total de ignições exceder {@code testes-fabrica.lote.max-ignicoes}.
+     */
+    public PlanoLote planejarLote(final TesteFabricaLoteRequest request) {
+        CatalogoMotores.Estado atual = catalogo.atual();
+        RegistroCarros registro = atual.registro();
+        List<Chave> chaves = vazia(request.chaves()) ? todasAsChaves() : request.chaves();
+        List<String> motores = vazia(request.motores())
+                ? List.copyOf(atual.motores().keySet())
+                : request.motores().stream().map(CatalogoMotores::nome).toList();
+        List<ModeloCarro> modelos = vazia(request.modelos()) ? List.copyOf(registro.modelos()) : request.modelos();
+        long repeticoes = request.repeticoes() == null ? 1 : request.repeticoes();
 
-        log.info("Processo de ignição (Motor Elétrico) concluído. Status: {} - Descrição: {}", status, status.getDescricao());
-        return status;
+        long maximo = properties.lote().maxIgnicoes();
+        long quantidade = produto(produto(chaves.size(), motores.size()), modelos.size());
+        if (quantidade > Integer.MAX_VALUE || produto(quantidade, repeticoes) > maximo) {
+            throw new BadRequestException("Lote excede o limite de " + maximo + " ignições.");
+        }
+
+        for (Chave chave : chaves) {
+            if (chave == null || chave.getMontadora() == null || chave.getTipo() == null) {
+                throw new BadRequestException("Toda chave deve informar montadora e tipo.");
+            }
+        }
+        if (request.motores() != null && request.motores().stream().anyMatch(Objects::isNull)) {
+            throw new BadRequestException("Nome de motor não pode ser nulo.");
+        }
+        if (request.modelos() != null && request.modelos().stream().anyMatch(Objects::isNull)) {
+            throw new BadRequestException("Modelo de carro não pode ser nulo.");
+        }
+        for (ModeloCarro modelo : modelos) {
+            if (!registro.modelos().contains(modelo)) {
+                throw new BadRequestException("Modelo de carro não disponível para testes: " + modelo);
+            }
+            for (String motor : motores) {
+                if (!registro.contem(modelo, motor)) {
+                    throw new BadRequestException("Motor " + motor + " não disponível para o modelo " + modelo);
+                }
+            }
+        }
+
+        List<Combinacao> combinacoes = new ArrayList<>((int) quantidade);
+        for (Chave chave : chaves) {
+            for (String motor : motores) {
+                for (ModeloCarro modelo : modelos) {
+                    combinacoes.add(new Combinacao(chave, motor, modelo));
+                }
+            }
+        }
+
+        return new PlanoLote(List.copyOf(combinacoes), repeticoes, registro);
     }
 
     /**
-     * Tenta ligar um carro usando o motor turbo injetado.
-     * @param chave A chave a ser usada.
-     * @return A situação resultante da tentativa de ignição.
+     * Executa as ignições do plano em paralelo no pool fork-join {@code testeFabricaPool}.
+     * Cada combinação usa a instância compartilhada do {@link RegistroCarros} e é dividida recursivamente em faixas de repetições
+     * ({@code testes-fabrica.lote.limiar-divisao}) distribuídas entre os núcleos. O resultado de cada combinação
+     * é entregue ao consumidor assim que ela termina (na thread chamadora), sem acumular a resposta completa.
+     * No máximo {@code 2 × paralelismo} combinações ficam submetidas ao pool de cada vez; a janela é reposta
+     * a cada conclusão. Se o consumidor falhar (ex: cliente desconectado), apenas as combinações da janela são canceladas
+     * e as demais nunca chegam a ser submetidas.
+     * <p>
+     * SUMÁRIO: Simula ignições em lote, em paralelo, entregando resultados por combinação.
+     *
+     * @param plano Plano validado por {@link #planejarLote(TesteFabricaLoteRequest)}.
+     * @param consumidor Função chamada com o resultado de cada combinação, na ordem de conclusão.
+     * @return Totais da simulação.
      */
-    public CarroStatus ligarCarroComMotorTurbo(final Chave chave) {
-        log.info("Iniciando tentativa de ligar o carro com o motor turbo e a chave: {}", chave);
-        log.debug("Criando instância de HondaHRV com o motor turbo: {}", motorTurbo);
+    public TesteFabricaResumoResponse executarLote(
+            final PlanoLote plano, final Consumer<TesteFabricaCombinacaoResponse> consumidor
+    ) {
+        return metricas.medir(MetricaName.SERVICO_TESTE_FABRICA, "executarLote", () -> {
+            log.debug("Iniciando simulação em lote. Combinações: {}, repetições: {}", plano.combinacoes().size(), plano.repeticoes());
+            long inicio = System.nanoTime();
 
-        CarroStatus status = new HondaHRV(motorTurbo).ignicao(chave);
+            CompletionService<TesteFabricaCombinacaoResponse> execucao = new ExecutorCompletionService<>(testeFabricaPool);
+            Iterator<Combinacao> restantes = plano.combinacoes().iterator();
+            Set<Future<TesteFabricaCombinacaoResponse>> pendentes = new HashSet<>();
+            int janela = testeFabricaPool.getParallelism() * 2;
 
-        log.info("Processo de ignição (Motor Turbo) concluído. Status: {} - Descrição: {}", status, status.getDescricao());
-        return status;
+            long[] totais = new long[STATUS.length];
+            try {
+                preencher(execucao, plano, restantes, pendentes, janela);
+                while (!pendentes.isEmpty()) {
+                    Future<TesteFabricaCombinacaoResponse> concluida = execucao.take();
+                    pendentes.remove(concluida);
+                    TesteFabricaCombinacaoResponse resultado = concluida.get();
+                    preencher(execucao, plano, restantes, pendentes, janela);
+                    resultado.status().forEach((status, quantidade) -> {
+                        totais[status.ordinal()] += quantidade;
+                        if (quantidade > 0) {
+                            registrar(resultado.chave(), resultado.motor(), resultado.modelo(), status, quantidade);
+                        }
+                    });
+                    consumidor.accept(resultado);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Simulação em lote interrompida.", ex);
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException("Falha na simulação em lote.", ex.getCause());
+            } finally {
+                pendentes.forEach(pendente -> pendente.cancel(true));
+            }
+
+            long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+            log.atDebug().setMessage("Simulação em lote concluída")
+                    .addKeyValue("ignicoes", plano.ignicoes())
+                    .addKeyValue("duracaoMs", duracaoMs)
+                    .log();
+            return new TesteFabricaResumoResponse(plano.combinacoes().size(), plano.ignicoes(), porStatus(totais), duracaoMs);
+        });
+    }
+
+    /**
+     * Consulta o histórico de ignições registrado, agregado por combinação chave × motor × modelo.
+     * Os totais vêm de contadores mantidos em memória, sem consulta ao banco de dados.
+     * <p>
+     * SUMÁRIO: Consulta o histórico agregado de ignições.
+     *
+     * @param montadoraChave Filtro pela montadora da chave. Pode ser nulo.
+     * @param tipoChave Filtro pelo tipo da chave. Pode ser nulo.
+     * @param motor Filtro pelo nome do motor, sem diferenciar maiúsculas e minúsculas. Pode ser nulo.
+     * @param modelo Filtro pelo modelo do carro. Pode ser nulo.
+     * @return Totais e taxa de sucesso por combinação.
+     */
+    public List<TesteFabricaResultadoResponse> consultarResultados(
+            final Montadora montadoraChave, final TipoChave tipoChave, final String motor, final ModeloCarro modelo
+    ) {
+        return metricas.medir(MetricaName.SERVICO_TESTE_FABRICA, "consultarResultados",
+                () -> registrador.agregar(montadoraChave, tipoChave, CatalogoMotores.nome(motor), modelo));
+    }
+
+    /**
+     * Submete combinações até que a janela de pendentes esteja cheia ou o plano se esgote.
+     */
+    private void preencher(
+            final CompletionService<TesteFabricaCombinacaoResponse> execucao, final PlanoLote plano,
+            final Iterator<Combinacao> restantes, final Set<Future<TesteFabricaCombinacaoResponse>> pendentes, final int janela
+    ) {
+        while (pendentes.size() < janela && restantes.hasNext()) {
+            Combinacao combinacao = restantes.next();
+            pendentes.add(execucao.submit(() -> executar(plano.registro(), combinacao, plano.repeticoes())));
+        }
+    }
+
+    private void registrar(
+            final Chave chave, final String motor, final ModeloCarro modelo, final CarroStatus status, final long quantidade
+    ) {
+        registrador.registrar(new ResultadoIgnicao(
+                chave.getMontadora(), chave.getTipo(), motor, modelo, status, quantidade, Instant.now()));
+    }
+
+    private TesteFabricaCombinacaoResponse executar(
+            final RegistroCarros registro, final Combinacao combinacao, final long repeticoes
+    ) {
+        Carro carro = registro.carro(combinacao.modelo(), combinacao.motor());
+        long[] contagem = new IgnicaoTarefa(carro, combinacao.chave(), 0, repeticoes, Math.max(1, properties.lote().limiarDivisao())).invoke();
+        return new TesteFabricaCombinacaoResponse(
+                combinacao.chave(), combinacao.motor(), combinacao.modelo(), repeticoes, porStatus(contagem));
+    }
+
+    private static List<Chave> todasAsChaves() {
+        List<Chave> chaves = new ArrayList<>();
+        for (Montadora montadora : Montadora.values()) {
+            for (TipoChave tipo : TipoChave.values()) {
+                Chave chave = new Chave();
+                chave.setMontadora(montadora);
+                chave.setTipo(tipo);
+                chaves.add(chave);
+            }
+        }
+        return chaves;
+    }
+
+    /**
+     * Produto saturado em {@link Long#MAX_VALUE}: um total que não cabe em {@code long} também excede o limite.
+     */
+    private static long produto(final long a, final long b) {
+        try {
+            return Math.multiplyExact(a, b);
+        } catch (ArithmeticException ex) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static boolean vazia(final List<?> lista) {
+        return lista == null || lista.isEmpty();
+    }
+
+    private static Map<CarroStatus, Long> porStatus(final long[] contagem) {
+        Map<CarroStatus, Long> mapa = new EnumMap<>(CarroStatus.class);
+        Arrays.stream(STATUS).forEach(status -> mapa.put(status, contagem[status.ordinal()]));
+        return mapa;
+    }
+
+    /**
+     * Executa as ignições de uma faixa {@code [inicio, fim)} de repetições, dividindo-a ao meio
+     * enquanto for maior que o limiar. Retorna a contagem por ordinal de {@link CarroStatus}.
+     */
+    private static final class IgnicaoTarefa extends RecursiveTask<long[]> {
+        private final transient Carro carro;
+        private final transient Chave chave;
+        private final long inicio;
+        private final long fim;
+        private final int limiar;
+
+        private IgnicaoTarefa(Carro carro, Chave chave, long inicio, long fim, int limiar) {
+            this.carro = carro;
+            this.chave = chave;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.limiar = limiar;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (fim - inicio <= limiar) {
+                long[] contagem = new long[STATUS.length];
+                for (long i = inicio; i < fim; i++) {
+                    contagem[carro.ignicao(chave).ordinal()]++;
+                }
+                return contagem;
+            }
+
+            long meio = (inicio + fim) >>> 1;
+            IgnicaoTarefa esquerda = new IgnicaoTarefa(carro, chave, inicio, meio, limiar);
+            esquerda.fork();
+            long[] contagem = new IgnicaoTarefa(carro, chave, meio, fim, limiar).compute();
+            long[] parcial = esquerda.join();
+            for (int i = 0; i < contagem.length; i++) {
+                contagem[i] += parcial[i];
+            }
+            return contagem;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package org.project.util;
+
+public final class CacheName {
+    private CacheName() {
+        throw new UnsupportedOperationException("Esta é uma classe de utilidade e não deve ser instanciada");
+    }
+
+    public static final String PRODUTO = "produto";
+    public static final String PRODUTO_CONTAGEM = "produtoContagem";
+
+    /**
+     * Regiões do cache de segundo nível do Hibernate (declaradas em {@code hibernate-cache.conf}),
+     * independentes dos caches do Spring acima.
+     */
+    public static final String REGIAO_PRODUTO = "produto-entidade";
+    public static final String REGIAO_PRODUTO_BUSCA = "produto-busca";
+}
@@ -0,0 +1,96 @@
+package org.project.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Leitor incremental de CSV (RFC 4180): devolve um registro por vez, sem carregar o arquivo em memória.
+ * Suporta campos entre aspas com vírgulas, quebras de linha e aspas duplicadas ({@code ""}) internas.
+ * Linhas vazias são ignoradas.
+ */
+public final class LeitorCsv implements Iterator<List<String>> {
+    private final BufferedReader reader;
+    private List<String> proximo;
+    private boolean lido;
+
+    public LeitorCsv(final Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!lido) {
+            try {
+                proximo = ler();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            lido = true;
+        }
+        return proximo != null;
+    }
+
+    @Override
+    public List<String> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        lido = false;
+        return proximo;
+    }
+
+    private List<String> ler() throws IOException {
+        List<String> campos;
+        do {
+            campos = lerRegistro();
+        } while (campos != null && campos.size() == 1 && campos.getFirst().isEmpty());
+        return campos;
+    }
+
+    private List<String> lerRegistro() throws IOException {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+        boolean leuAlgo = false;
+        int c;
+
+        while ((c = reader.read()) != -1) {
+            leuAlgo = true;
+            if (entreAspas) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        campo.append('"');
+                    } else {
+                        entreAspas = false;
+                        reader.reset();
+                    }
+                } else {
+                    campo.append((char) c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (c == '\n') {
+                campos.add(campo.toString());
+                return campos;
+            } else if (c != '\r') {
+                campo.append((char) c);
+            }
+        }
+
+        if (!leuAlgo) {
+            return null;
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+}
@@ -0,0 +1,18 @@
+package org.project.util;
+
+public final class MetricaName {
+    private MetricaName() {
+        throw new UnsupportedOperationException("Esta é uma classe de utilidade e não deve ser instanciada");
+    }
+
+    public static final String SERVICO_OPERACAO = "servico.operacao";
+    public static final String SERVICO_OPERACAO_ETAPA = "servico.operacao.etapa";
+    public static final String SERVICO_OPERACAO_CACHE = "servico.operacao.cache";
+    public static final String SERVICO_BUSCA_RESULTADOS = "servico.busca.resultados";
+    public static final String SERVICO_OPERACAO_COALESCIDA = "servico.operacao.coalescida";
+    public static final String RESULTADOS_TESTE_FABRICA_PENDENTES = "testes.fabrica.resultados.pendentes";
+    public static final String RESULTADOS_TESTE_FABRICA_DESCARTADOS = "testes.fabrica.resultados.descartados";
+
+    public static final String SERVICO_PRODUTO = "produto";
+    public static final String SERVICO_TESTE_FABRICA = "testeFabrica";
+}
@@ -0,0 +1,24 @@
+CREATE TABLE produto (
+    id INTEGER PRIMARY KEY AUTO_INCREMENT,
+    nome VARCHAR(255) NOT NULL,
+    descricao VARCHAR(255) NOT NULL,
+    preco numeric(16, 4) NOT NULL,
+    versao BIGINT DEFAULT 0 NOT NULL
+);
+
+-- Sequência de IDs com incremento igual ao allocationSize de Produto (otimizador pooled do Hibernate),
+-- o que permite agrupar os INSERTs em lotes JDBC. Inicia acima dos registros de exemplo.
+CREATE SEQUENCE produto_seq START WITH 100 INCREMENT BY 50;
+
+-- Resultados de ignição dos testes de fábrica, somente inserção. Ignições em lote são gravadas agregadas
+-- por combinação e situação, com a quantidade correspondente.
+CREATE TABLE resultado_teste_fabrica (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    montadora_chave VARCHAR(20),
+    tipo_chave VARCHAR(20),
+    motor VARCHAR(20) NOT NULL,
+    modelo VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    quantidade BIGINT NOT NULL,
+    registrado_em TIMESTAMP NOT NULL
+);
@@ -1,10 +1,3 @@
-CREATE TABLE produto (
-    id INTEGER PRIMARY KEY AUTO_INCREMENT,
-    nome VARCHAR(255) NOT NULL,
-    descricao VARCHAR(255),
-    preco numeric(16, 4)
-);
-
 INSERT INTO produto (nome, descricao, preco) VALUES
     ('Camiseta Branca', 'Camiseta de algodão tamanho M', 49.90),
     ('Notebook Dell XPS', 'Notebook com 16GB RAM e SSD 512GB', 7599.00),
@@ -25,4 +18,4 @@ INSERT INTO produto (nome, descricao, preco) VALUES
     ('Roteador Wi-Fi 6', 'Roteador de alta velocidade para jogos', 429.00),
     ('Webcam Full HD', 'Câmera para videochamadas e streaming', 229.00),
     ('Hub USB-C', 'Adaptador com 5 portas', 139.00),
-    ('Luminária LED de Mesa', 'Com regulagem de brilho e temperatura', 89.90);
\ No newline at end of file
+    ('Luminária LED de Mesa', 'Com regulagem de brilho e temperatura', 89.90);
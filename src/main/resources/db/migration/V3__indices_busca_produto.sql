@@ -0,0 +1,15 @@
+-- Colunas geradas com nome e descrição em minúsculas, usadas pelos filtros textuais de ProdutoSpecification
+-- no lugar de lower(coluna): o H2 não tem índices de expressão, então a função é materializada na coluna.
+ALTER TABLE produto ADD COLUMN nome_minusculo VARCHAR(255) GENERATED ALWAYS AS (LOWER(nome));
+ALTER TABLE produto ADD COLUMN descricao_minusculo VARCHAR(255) GENERATED ALWAYS AS (LOWER(descricao));
+
+-- Faixa de preço e ordenação/cursor por preço: (preco, id) atende o BETWEEN e o desempate por id do keyset.
+CREATE INDEX idx_produto_preco_id ON produto (preco, id);
+
+-- Ordenação/cursor por nome.
+CREATE INDEX idx_produto_nome_id ON produto (nome, id);
+
+-- Filtros textuais: atendem buscas por prefixo e igualdade; buscas por trecho ('%termo%')
+-- continuam sendo resolvidas pelo índice de trigramas em memória (ProdutoIndiceTexto).
+CREATE INDEX idx_produto_nome_minusculo ON produto (nome_minusculo);
+CREATE INDEX idx_produto_descricao_minusculo ON produto (descricao_minusculo);
@@ -0,0 +1,9 @@
+-- Os índices B-tree sobre as colunas minúsculas só atendiam buscas por prefixo, e os filtros textuais são
+-- sempre por trecho ('%termo%'), resolvidos pelo índice de trigramas em memória (ProdutoIndiceTexto).
+-- Sem índice, as colunas geradas não poupam nada em relação a lower(coluna) e obrigavam o Hibernate a relê-las
+-- após cada escrita, o que desativava o agrupamento de INSERTs em lotes JDBC.
+DROP INDEX idx_produto_nome_minusculo;
+DROP INDEX idx_produto_descricao_minusculo;
+
+ALTER TABLE produto DROP COLUMN nome_minusculo;
+ALTER TABLE produto DROP COLUMN descricao_minusculo;